@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.samples.petclinic.PetClinicApplication;
+
+/**
+ * Benchmarks of the {@link BulkImporter} against the default H2 database, importing a
+ * file of 1000 owners with two pets of two visits each, i.e. 7000 rows, per invocation.
+ * Multiply the throughput by 7000 for rows per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkImportBenchmarks {
+
+	private static final int OWNERS = 1000;
+
+	@Param({ "csv", "ndjson" })
+	public String format;
+
+	@Param({ "1", "50", "500" })
+	public int batchSize;
+
+	private ConfigurableApplicationContext context;
+
+	private BulkImporter importer;
+
+	private Path file;
+
+	@Setup
+	public void setup() throws IOException {
+		this.context = new SpringApplicationBuilder(PetClinicApplication.class).web(WebApplicationType.NONE)
+			.properties("logging.level.root=WARN", "petclinic.import.batch-size=" + this.batchSize)
+			.run();
+		this.importer = this.context.getBean(BulkImporter.class);
+		this.file = Files.createTempFile("owners", "." + this.format);
+		try (BufferedWriter writer = Files.newBufferedWriter(this.file)) {
+			for (int i = 0; i < OWNERS; i++) {
+				if (this.format.equals("csv")) {
+					writer.write("owner,First" + i + ",Last" + i + ",1 Main St.,Madison,6085550000\n");
+					for (int j = 0; j < 2; j++) {
+						writer.write("pet,Pet" + j + ",2020-01-01,cat\n");
+						writer.write("visit,2021-01-01,checkup\n");
+						writer.write("visit,2022-01-01,vaccine\n");
+					}
+				}
+				else {
+					String visits = "[{\"date\":\"2021-01-01\",\"description\":\"checkup\"},"
+							+ "{\"date\":\"2022-01-01\",\"description\":\"vaccine\"}]";
+					writer.write("{\"firstName\":\"First" + i + "\",\"lastName\":\"Last" + i
+							+ "\",\"address\":\"1 Main St.\",\"city\":\"Madison\",\"telephone\":\"6085550000\",\"pets\":["
+							+ "{\"name\":\"Pet0\",\"birthDate\":\"2020-01-01\",\"type\":\"cat\",\"visits\":" + visits + "},"
+							+ "{\"name\":\"Pet1\",\"birthDate\":\"2020-01-01\",\"type\":\"cat\",\"visits\":" + visits
+							+ "}]}\n");
+				}
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		this.context.close();
+		Files.deleteIfExists(this.file);
+	}
+
+	@Benchmark
+	public ImportReport importFile() throws IOException {
+		return this.importer.importFile(this.file);
+	}
+
+}
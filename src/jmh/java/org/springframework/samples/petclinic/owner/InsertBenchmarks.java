@@ -0,0 +1,125 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Benchmarks of inserting owners through JPA against the default H2 database, 100 owners
+ * with two pets of two visits each, i.e. 700 rows, per transaction. Multiply the
+ * throughput by 700 for rows per second.
+ * <p>
+ * With {@code batchSize} 0 every row is its own statement, as it was with identity
+ * columns, where Hibernate has to insert each row on its own to read back its id. To
+ * measure the identity columns themselves, run the benchmark on a revision before the
+ * switch to the pooled sequence.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InsertBenchmarks {
+
+	private static final int OWNERS = 100;
+
+	@Param({ "0", "50" })
+	public int batchSize;
+
+	private ConfigurableApplicationContext context;
+
+	private OwnerRepository owners;
+
+	private TransactionTemplate transactionTemplate;
+
+	private PetType cat;
+
+	@Setup
+	public void setup() {
+		this.context = new SpringApplicationBuilder(PetClinicApplication.class).web(WebApplicationType.NONE)
+			.properties("logging.level.root=WARN",
+					"spring.jpa.properties.hibernate.jdbc.batch_size=" + this.batchSize)
+			.run();
+		this.owners = this.context.getBean(OwnerRepository.class);
+		this.transactionTemplate = new TransactionTemplate(this.context.getBean(PlatformTransactionManager.class));
+		this.cat = this.context.getBean(PetTypeRegistry.class).findByName("cat");
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.context.close();
+	}
+
+	@Benchmark
+	public List<Owner> insertOwners() {
+		List<Owner> batch = new ArrayList<>(OWNERS);
+		for (int i = 0; i < OWNERS; i++) {
+			batch.add(owner(i));
+		}
+		return this.transactionTemplate.execute(status -> this.owners.saveAll(batch));
+	}
+
+	private Owner owner(int i) {
+		Owner owner = new Owner();
+		owner.setFirstName("First" + i);
+		owner.setLastName("Last" + i);
+		owner.setAddress("1 Main St.");
+		owner.setCity("Madison");
+		owner.setTelephone("6085550000");
+		for (int j = 0; j < 2; j++) {
+			Pet pet = new Pet();
+			pet.setName("Pet" + j);
+			pet.setBirthDate(LocalDate.of(2020, 1, 1));
+			pet.setType(this.cat);
+			pet.addVisit(visit(LocalDate.of(2021, 1, 1), "checkup"));
+			pet.addVisit(visit(LocalDate.of(2022, 1, 1), "vaccine"));
+			owner.addPet(pet);
+		}
+		return owner;
+	}
+
+	private static Visit visit(LocalDate date, String description) {
+		Visit visit = new Visit();
+		visit.setDate(date);
+		visit.setDescription(description);
+		return visit;
+	}
+
+}
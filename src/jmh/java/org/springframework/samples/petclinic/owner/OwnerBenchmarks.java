@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.owner;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the {@link Owner} pet lookups, for owners with a growing number of pets.
+ * The last pet is looked up, which is the worst case of a linear scan.
+ * <p>
+ * The {@code scan} benchmarks are the list traversal the lookups used before the pets
+ * were indexed, the {@code cold} ones include building the index. Comparing them gives
+ * the number of pets, and of lookups per loaded owner, from which the index pays off.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OwnerBenchmarks {
+
+	@Param({ "1", "4", "16", "64", "256", "1024" })
+	public int petCount;
+
+	private Owner owner;
+
+	private Integer lastId;
+
+	private String lastName;
+
+	@Setup
+	public void setup() {
+		this.owner = new Owner();
+		for (int i = 1; i <= this.petCount; i++) {
+			Pet pet = new Pet();
+			pet.setName("Pet " + i);
+			this.owner.addPet(pet);
+			pet.setId(i);
+		}
+		this.lastId = this.petCount;
+		this.lastName = "PET " + this.petCount;
+	}
+
+	@Benchmark
+	public Pet getPetById() {
+		return this.owner.getPet(this.lastId);
+	}
+
+	@Benchmark
+	public Pet getPetByName() {
+		return this.owner.getPet(this.lastName, true);
+	}
+
+	@Benchmark
+	public Pet coldGetPetById() {
+		this.owner.invalidatePetIndex();
+		return this.owner.getPet(this.lastId);
+	}
+
+	@Benchmark
+	public Pet coldGetPetByName() {
+		this.owner.invalidatePetIndex();
+		return this.owner.getPet(this.lastName, true);
+	}
+
+	@Benchmark
+	public Pet scanPetById() {
+		for (Pet pet : this.owner.getPets()) {
+			if (!pet.isNew() && pet.getId().equals(this.lastId)) {
+				return pet;
+			}
+		}
+		return null;
+	}
+
+	@Benchmark
+	public Pet scanPetByName() {
+		for (Pet pet : this.owner.getPets()) {
+			String name = pet.getName();
+			if (name != null && name.equalsIgnoreCase(this.lastName) && !pet.isNew()) {
+				return pet;
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Records the latencies of successful requests in an HdrHistogram {@link Recorder}, in
+ * microseconds, and counts the failed ones. Safe to record from any number of threads.
+ */
+final class LatencyStats {
+
+	/**
+	 * The highest latency recorded, longer ones are recorded as this.
+	 */
+	static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+	private final String name;
+
+	private final Recorder recorder = new Recorder(HIGHEST_MICROS, 3);
+
+	private final LongAdder errors = new LongAdder();
+
+	LatencyStats(String name) {
+		this.name = name;
+	}
+
+	void record(long nanos) {
+		this.recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_MICROS));
+	}
+
+	void error() {
+		this.errors.increment();
+	}
+
+	/**
+	 * Discard what was recorded so far, e.g. during the warmup.
+	 */
+	void reset() {
+		this.recorder.reset();
+		this.errors.reset();
+	}
+
+	/**
+	 * Summarize what was recorded since the last reset.
+	 * @param measured the time the recording covers
+	 * @return the summary
+	 */
+	Summary summarize(Duration measured) {
+		return new Summary(this.name, this.recorder.getIntervalHistogram(), this.errors.sum(), measured);
+	}
+
+	/**
+	 * The latencies and errors of a kind of request over a period of time.
+	 *
+	 * @param name the name of the requests
+	 * @param histogram the latencies of the successful requests, in microseconds
+	 * @param errors the number of failed requests
+	 * @param measured the period of time
+	 */
+	record Summary(String name, Histogram histogram, long errors, Duration measured) {
+
+		long count() {
+			return this.histogram.getTotalCount() + this.errors;
+		}
+
+		double errorRate() {
+			return (count() > 0) ? (double) this.errors / count() : 0;
+		}
+
+		double throughput() {
+			return count() / (this.measured.toNanos() / 1e9);
+		}
+
+		Duration percentile(double percentile) {
+			return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(this.histogram.getValueAtPercentile(percentile)));
+		}
+
+		static Summary combine(String name, Iterable<Summary> summaries, Duration measured) {
+			Histogram histogram = new Histogram(HIGHEST_MICROS, 3);
+			long errors = 0;
+			for (Summary summary : summaries) {
+				histogram.add(summary.histogram());
+				errors += summary.errors();
+			}
+			return new Summary(name, histogram, errors, measured);
+		}
+
+	}
+
+}
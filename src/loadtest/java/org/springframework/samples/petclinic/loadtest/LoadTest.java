@@ -0,0 +1,219 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.loadtest.LatencyStats.Summary;
+import org.springframework.samples.petclinic.loadtest.LoadTestSettings.Model;
+import org.springframework.samples.petclinic.loadtest.Scenario.Step;
+
+/**
+ * Runs the {@link Scenario} against the application over HTTP, in place of the former
+ * JMeter test plan, and fails when the service level objectives are not met. Unless
+ * {@code loadtest.base-url} is set, the application is started with an embedded server
+ * on a random port and the default H2 database. Run with
+ * {@code ./mvnw verify -P loadtest -DskipTests} or {@code ./gradlew loadTest}, settings
+ * are described in {@link LoadTestSettings}.
+ */
+public final class LoadTest {
+
+	private final LoadTestSettings settings;
+
+	private final Scenario scenario;
+
+	private final HttpClient client;
+
+	private final List<LatencyStats> steps = new ArrayList<>();
+
+	private final LatencyStats scenarios = new LatencyStats("scenario");
+
+	private final AtomicInteger passes = new AtomicInteger();
+
+	private LoadTest(LoadTestSettings settings, String baseUrl) {
+		this.settings = settings;
+		this.scenario = new Scenario(baseUrl);
+		this.client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.connectTimeout(settings.requestTimeout())
+			.build();
+		this.scenario.steps().forEach(step -> this.steps.add(new LatencyStats(step.name())));
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestSettings settings = LoadTestSettings.from(args);
+		ConfigurableApplicationContext context = null;
+		String baseUrl = settings.baseUrl();
+		if (baseUrl == null) {
+			context = new SpringApplicationBuilder(PetClinicApplication.class)
+				.properties("server.port=0", "logging.level.root=WARN")
+				.run(args);
+			baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+		}
+		try {
+			LoadTestReport report = new LoadTest(settings, baseUrl).run();
+			report.print(System.out);
+			report.write(settings.reportDirectory());
+			List<String> violations = report.violations();
+			if (!violations.isEmpty()) {
+				throw new IllegalStateException(
+						"Service level objectives not met:\n  " + String.join("\n  ", violations));
+			}
+		}
+		finally {
+			if (context != null) {
+				context.close();
+			}
+		}
+	}
+
+	private LoadTestReport run() throws InterruptedException {
+		long start = System.nanoTime();
+		long measureFrom = start + this.settings.warmup().toNanos();
+		long until = measureFrom + this.settings.duration().toNanos();
+		ExecutorService executor;
+		Thread arrivals = null;
+		if (this.settings.model() == Model.OPEN) {
+			// scenarios beyond the limit are dropped rather than queued
+			ThreadPoolExecutor scenarios = new ThreadPoolExecutor(0, this.settings.users(), 30, TimeUnit.SECONDS,
+					new SynchronousQueue<>());
+			arrivals = startArrivals(scenarios, start, until);
+			executor = scenarios;
+		}
+		else {
+			executor = startUsers(start, until);
+		}
+		// discard the warmup, scenarios still running from it are measured
+		sleepUntil(measureFrom);
+		this.steps.forEach(LatencyStats::reset);
+		this.scenarios.reset();
+		if (arrivals != null) {
+			arrivals.join();
+		}
+		executor.shutdown();
+		if (!executor.awaitTermination(until - System.nanoTime() + this.settings.requestTimeout().toNanos() * 2,
+				TimeUnit.NANOSECONDS)) {
+			executor.shutdownNow();
+		}
+		Duration measured = Duration.ofNanos(System.nanoTime() - measureFrom);
+		List<Summary> summaries = this.steps.stream().map(step -> step.summarize(measured)).toList();
+		return new LoadTestReport(this.settings, summaries, Summary.combine("all requests", summaries, measured),
+				this.scenarios.summarize(measured));
+	}
+
+	private ExecutorService startUsers(long start, long until) {
+		ExecutorService users = Executors.newFixedThreadPool(this.settings.users());
+		long rampUpStep = this.settings.rampUp().toNanos() / this.settings.users();
+		for (int i = 0; i < this.settings.users(); i++) {
+			long userStart = start + i * rampUpStep;
+			users.execute(() -> {
+				sleepUntil(userStart);
+				while (System.nanoTime() < until && !Thread.currentThread().isInterrupted()) {
+					runScenario(System.nanoTime());
+				}
+			});
+		}
+		return users;
+	}
+
+	private Thread startArrivals(ExecutorService scenarios, long start, long until) {
+		long interval = (long) (TimeUnit.SECONDS.toNanos(1) / this.settings.arrivalRate());
+		Thread arrivals = new Thread(() -> {
+			for (long next = start; next < until; next += interval) {
+				sleepUntil(next);
+				long intendedStart = next;
+				try {
+					scenarios.execute(() -> runScenario(intendedStart));
+				}
+				catch (RejectedExecutionException ex) {
+					this.scenarios.error();
+				}
+			}
+		}, "loadtest-arrivals");
+		arrivals.start();
+		return arrivals;
+	}
+
+	/**
+	 * Run the scenario once, recording the latency of each request, and of the whole
+	 * scenario measured from when it should have started.
+	 * @param intendedStart the {@link System#nanoTime()} the scenario should have started
+	 */
+	private void runScenario(long intendedStart) {
+		int owner = Math.floorMod(this.passes.getAndIncrement(), Scenario.OWNERS) + 1;
+		boolean failed = false;
+		for (int i = 0; i < this.scenario.steps().size(); i++) {
+			Step step = this.scenario.steps().get(i);
+			LatencyStats stats = this.steps.get(i);
+			if (!this.settings.thinkTime().isZero()) {
+				sleepUntil(System.nanoTime() + this.settings.thinkTime().toNanos());
+			}
+			long requestStart = System.nanoTime();
+			try {
+				HttpResponse<Void> response = this.client.send(
+						step.request().apply(owner).timeout(this.settings.requestTimeout()).build(),
+						HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() < 400) {
+					stats.record(System.nanoTime() - requestStart);
+				}
+				else {
+					stats.error();
+					failed = true;
+				}
+			}
+			catch (IOException ex) {
+				stats.error();
+				failed = true;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		if (failed) {
+			this.scenarios.error();
+		}
+		else {
+			this.scenarios.record(System.nanoTime() - intendedStart);
+		}
+	}
+
+	private static void sleepUntil(long deadline) {
+		long left = deadline - System.nanoTime();
+		while (left > 0 && !Thread.currentThread().isInterrupted()) {
+			LockSupport.parkNanos(left);
+			left = deadline - System.nanoTime();
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.samples.petclinic.loadtest.LatencyStats.Summary;
+
+/**
+ * The outcome of a {@link LoadTest} run: throughput, latency percentiles and errors per
+ * request of the {@link Scenario}, of all requests together, and of whole scenarios.
+ *
+ * @param settings the settings of the run
+ * @param steps the summaries per request of the scenario
+ * @param requests the summary of all requests
+ * @param scenarios the summary of whole scenarios, including think time and, in the open
+ * model, the time a scenario waited to start
+ */
+record LoadTestReport(LoadTestSettings settings, List<Summary> steps, Summary requests, Summary scenarios) {
+
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+	/**
+	 * Print a table of the results.
+	 * @param out the stream to print to
+	 */
+	void print(PrintStream out) {
+		out.printf("%s model, %d users%s, %s think time, measured for %ss%n", this.settings.model(),
+				this.settings.users(),
+				(this.settings.model() == LoadTestSettings.Model.OPEN)
+						? ", " + this.settings.arrivalRate() + " scenarios/s" : "",
+				this.settings.thinkTime().toMillis() + "ms", this.requests.measured().toSeconds());
+		out.printf("%-14s %9s %7s %9s %9s %9s %9s %9s %9s%n", "", "count", "errors", "req/s", "p50 ms", "p90 ms",
+				"p99 ms", "p99.9 ms", "max ms");
+		for (Summary step : this.steps) {
+			print(out, step);
+		}
+		print(out, this.requests);
+		print(out, this.scenarios);
+	}
+
+	private static void print(PrintStream out, Summary summary) {
+		out.printf("%-14s %9d %7d %9.1f", summary.name(), summary.count(), summary.errors(), summary.throughput());
+		for (double percentile : PERCENTILES) {
+			out.printf(" %9.1f", millis(summary.percentile(percentile)));
+		}
+		out.printf(" %9.1f%n", summary.histogram().getMaxValue() / 1000.0);
+	}
+
+	/**
+	 * Write the table to {@code report.txt}, and the latency distributions of all
+	 * requests and of whole scenarios to {@code requests.hgrm} and {@code scenarios.hgrm},
+	 * in the format of the HdrHistogram plotter.
+	 * @param directory the directory to write to
+	 * @throws IOException if the reports could not be written
+	 */
+	void write(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("report.txt")), false,
+				StandardCharsets.UTF_8)) {
+			print(out);
+			List<String> violations = violations();
+			out.println(violations.isEmpty() ? "All service level objectives met" : String.join("\n", violations));
+		}
+		writeDistribution(directory.resolve("requests.hgrm"), this.requests);
+		writeDistribution(directory.resolve("scenarios.hgrm"), this.scenarios);
+	}
+
+	private static void writeDistribution(Path file, Summary summary) throws IOException {
+		try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+			// in milliseconds
+			summary.histogram().outputPercentileDistribution(out, 1000.0);
+		}
+	}
+
+	/**
+	 * Check the results of all requests against the service level objectives of the
+	 * settings.
+	 * @return a description of each objective that was not met
+	 */
+	List<String> violations() {
+		List<String> violations = new ArrayList<>();
+		checkLatency(violations, 50, this.settings.sloP50());
+		checkLatency(violations, 99, this.settings.sloP99());
+		if (this.requests.errorRate() > this.settings.sloErrorRate()) {
+			violations.add(String.format("Error rate %.4f exceeds %.4f", this.requests.errorRate(),
+					this.settings.sloErrorRate()));
+		}
+		if (this.requests.throughput() < this.settings.sloThroughput()) {
+			violations.add(String.format("Throughput %.1f req/s is below %.1f req/s", this.requests.throughput(),
+					this.settings.sloThroughput()));
+		}
+		return violations;
+	}
+
+	private void checkLatency(List<String> violations, double percentile, Duration objective) {
+		Duration latency = this.requests.percentile(percentile);
+		if (latency.compareTo(objective) > 0) {
+			violations.add(String.format("p%.0f latency %.1f ms exceeds %d ms", percentile, millis(latency),
+					objective.toMillis()));
+		}
+	}
+
+	private static double millis(Duration duration) {
+		return duration.toNanos() / 1e6;
+	}
+
+}
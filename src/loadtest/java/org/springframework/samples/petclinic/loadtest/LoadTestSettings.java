@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of a {@link LoadTest} run, read from {@code loadtest.*} system properties,
+ * e.g. {@code -Dloadtest.model=open -Dloadtest.arrival-rate=50}. Settings not given as
+ * system properties can be passed as {@code --name=value} arguments, as the build does
+ * for the report directory.
+ *
+ * @param baseUrl the URL of a running application to test, or {@code null} to start one
+ * with an embedded server
+ * @param model how load is generated
+ * @param users in the closed model the number of users running the scenario over and over,
+ * in the open model the maximum number of scenarios in progress, beyond which arrivals are
+ * dropped and counted as errors
+ * @param rampUp the time over which the users of the closed model are started
+ * @param arrivalRate in the open model the number of scenarios started per second,
+ * whether or not earlier ones have completed
+ * @param thinkTime the pause before each request
+ * @param warmup how long the load runs before it is measured
+ * @param duration how long the load is measured
+ * @param requestTimeout the time after which a request counts as failed
+ * @param sloP50 the median request latency not to exceed
+ * @param sloP99 the 99th percentile request latency not to exceed
+ * @param sloErrorRate the ratio of failed requests not to exceed
+ * @param sloThroughput the number of requests per second to reach, {@code 0} for any
+ * @param reportDirectory the directory the reports are written to
+ */
+record LoadTestSettings(String baseUrl, Model model, int users, Duration rampUp, double arrivalRate,
+		Duration thinkTime, Duration warmup, Duration duration, Duration requestTimeout, Duration sloP50,
+		Duration sloP99, double sloErrorRate, double sloThroughput, Path reportDirectory) {
+
+	static LoadTestSettings from(String[] args) {
+		Map<String, String> settings = arguments(args);
+		return new LoadTestSettings(property(settings, "base-url", null),
+				Model.valueOf(property(settings, "model", "closed").toUpperCase(Locale.ROOT)),
+				Integer.parseInt(property(settings, "users", "50")), duration(settings, "ramp-up", "10s"),
+				Double.parseDouble(property(settings, "arrival-rate", "10")),
+				duration(settings, "think-time", "300ms"), duration(settings, "warmup", "10s"),
+				duration(settings, "duration", "30s"), duration(settings, "request-timeout", "10s"),
+				duration(settings, "slo.p50", "100ms"), duration(settings, "slo.p99", "500ms"),
+				Double.parseDouble(property(settings, "slo.error-rate", "0.01")),
+				Double.parseDouble(property(settings, "slo.throughput", "0")),
+				Path.of(property(settings, "report-directory", "target/loadtest")));
+	}
+
+	/**
+	 * Return the {@code --name=value} arguments by name, ignoring any other argument.
+	 * @param args the program arguments
+	 * @return the values by name
+	 */
+	static Map<String, String> arguments(String[] args) {
+		Map<String, String> arguments = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (arg.startsWith("--") && separator > 2) {
+				arguments.put(arg.substring(2, separator), arg.substring(separator + 1));
+			}
+		}
+		return arguments;
+	}
+
+	private static Duration duration(Map<String, String> arguments, String name, String defaultValue) {
+		return DurationStyle.detectAndParse(property(arguments, name, defaultValue));
+	}
+
+	private static String property(Map<String, String> arguments, String name, String defaultValue) {
+		return System.getProperty("loadtest." + name, arguments.getOrDefault(name, defaultValue));
+	}
+
+	/**
+	 * How load is generated.
+	 */
+	enum Model {
+
+		/**
+		 * A fixed number of users, each starting the scenario again once it completed.
+		 * The load backs off when the application slows down.
+		 */
+		CLOSED,
+
+		/**
+		 * Scenarios started at a fixed rate, however long earlier ones take. Latencies
+		 * are also measured from when a scenario should have started, so that time spent
+		 * waiting for the application is not hidden.
+		 */
+		OPEN
+
+	}
+
+}
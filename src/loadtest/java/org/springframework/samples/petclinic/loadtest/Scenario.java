@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * The requests a user makes in one pass through the application: the home page with its
+ * static resources, the vets, finding and editing an owner, and adding a pet and a visit.
+ * Each pass works on one of the first {@value #OWNERS} owners of the seed data and the
+ * pet with the same id, which belongs to that owner.
+ */
+final class Scenario {
+
+	static final int OWNERS = 3;
+
+	private final List<Step> steps;
+
+	Scenario(String baseUrl) {
+		this.steps = List.of(get("home", baseUrl, n -> "/"), get("css", baseUrl, n -> "/resources/css/petclinic.css"),
+				get("js", baseUrl, n -> "/webjars/bootstrap/dist/js/bootstrap.bundle.min.js"),
+				get("vets", baseUrl, n -> "/vets.html"), get("find owner", baseUrl, n -> "/owners/find"),
+				get("owners", baseUrl, n -> "/owners?lastName="), get("owner", baseUrl, n -> "/owners/" + n),
+				get("edit owner", baseUrl, n -> "/owners/" + n + "/edit"),
+				post("update owner", baseUrl, n -> "/owners/" + n + "/edit",
+						n -> Map.of("firstName", "Test", "lastName", "Test" + n, "address", "1234 Test St.", "city",
+								"TestCity", "telephone", "6123456789")),
+				get("new pet", baseUrl, n -> "/owners/" + n + "/pets/new"),
+				// the name is taken after the first pass, the form then comes back with an
+				// error
+				post("add pet", baseUrl, n -> "/owners/" + n + "/pets/new",
+						n -> Map.of("name", "Test Fluffy " + n, "birthDate", "2020-12-20", "type", "cat")),
+				get("new visit", baseUrl, n -> "/owners/" + n + "/pets/" + n + "/visits/new"),
+				post("add visit", baseUrl, n -> "/owners/" + n + "/pets/" + n + "/visits/new",
+						n -> Map.of("date", "2013-02-22", "description", "visit")));
+	}
+
+	List<Step> steps() {
+		return this.steps;
+	}
+
+	private static Step get(String name, String baseUrl, IntFunction<String> path) {
+		return new Step(name, n -> HttpRequest.newBuilder(URI.create(baseUrl + path.apply(n))).GET());
+	}
+
+	private static Step post(String name, String baseUrl, IntFunction<String> path,
+			IntFunction<Map<String, String>> form) {
+		return new Step(name,
+				n -> HttpRequest.newBuilder(URI.create(baseUrl + path.apply(n)))
+					.header("Content-Type", "application/x-www-form-urlencoded")
+					.POST(BodyPublishers.ofString(encode(form.apply(n)))));
+	}
+
+	private static String encode(Map<String, String> form) {
+		return form.entrySet()
+			.stream()
+			.map(field -> URLEncoder.encode(field.getKey(), StandardCharsets.UTF_8) + "="
+					+ URLEncoder.encode(field.getValue(), StandardCharsets.UTF_8))
+			.collect(Collectors.joining("&"));
+	}
+
+	/**
+	 * A single request of the scenario.
+	 *
+	 * @param name the name the request is reported under
+	 * @param request the request for the pass on the owner with the given id
+	 */
+	record Step(String name, IntFunction<HttpRequest.Builder> request) {
+
+	}
+
+}
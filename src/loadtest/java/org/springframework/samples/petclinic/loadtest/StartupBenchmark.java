@@ -0,0 +1,250 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.util.StringUtils;
+
+/**
+ * Measures how fast the application gets ready to serve, as built for the JIT, with a
+ * class data sharing archive or AOT cache trained by the {@code cds} build profile, and
+ * as a native image. Each variant is started several times on a free port; the time from
+ * launching the process to the first successful response, and the resident memory of the
+ * process at that point, are reported as medians. Variants whose build output is missing
+ * are skipped.
+ * <p>
+ * Settings are read from {@code startup.*} system properties: {@code jar},
+ * {@code cds-directory}, {@code native-image}, {@code runs} (5), {@code path} of the
+ * first request ({@code /owners?lastName=}), {@code arguments} passed to the application,
+ * e.g. {@code --spring.profiles.active=startup}, {@code timeout} (2m) and
+ * {@code report-directory}. Settings not given as system properties can be passed as
+ * {@code --name=value} arguments, as the build does for the paths of its output.
+ * </p>
+ */
+public final class StartupBenchmark {
+
+	private final int runs;
+
+	private final String path;
+
+	private final List<String> arguments;
+
+	private final Duration timeout;
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+	private StartupBenchmark(int runs, String path, List<String> arguments, Duration timeout) {
+		this.runs = runs;
+		this.path = path;
+		this.arguments = arguments;
+		this.timeout = timeout;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> settings = LoadTestSettings.arguments(args);
+		StartupBenchmark benchmark = new StartupBenchmark(Integer.parseInt(property(settings, "runs", "5")),
+				property(settings, "path", "/owners?lastName="),
+				Arrays.asList(StringUtils.tokenizeToStringArray(property(settings, "arguments", ""), " ")),
+				DurationStyle.detectAndParse(property(settings, "timeout", "2m")));
+		Path reportDirectory = Path.of(property(settings, "report-directory", "target/startup"));
+		Files.createDirectories(reportDirectory);
+		List<Variant> variants = new ArrayList<>();
+		jit(property(settings, "jar", null)).ifPresent(variants::add);
+		cds(property(settings, "cds-directory", null)).ifPresent(variants::add);
+		nativeImage(property(settings, "native-image", null)).ifPresent(variants::add);
+		List<Result> results = new ArrayList<>();
+		for (Variant variant : variants) {
+			results.add(benchmark.measure(variant, reportDirectory));
+		}
+		print(System.out, results);
+		try (PrintStream out = new PrintStream(Files.newOutputStream(reportDirectory.resolve("report.txt")), false,
+				StandardCharsets.UTF_8)) {
+			print(out, results);
+		}
+	}
+
+	private static Optional<Variant> jit(String jar) {
+		if (jar == null || !Files.isRegularFile(Path.of(jar))) {
+			System.out.println("Skipping JIT, no jar at " + jar);
+			return Optional.empty();
+		}
+		return Optional.of(new Variant("JIT", List.of(java(), "-jar", jar)));
+	}
+
+	private static Optional<Variant> cds(String directory) throws IOException {
+		Path dir = (directory != null) ? Path.of(directory) : null;
+		if (dir == null || !Files.isDirectory(dir)) {
+			System.out.println("Skipping CDS, no extracted application at " + directory);
+			return Optional.empty();
+		}
+		Optional<Path> jar;
+		try (Stream<Path> files = Files.list(dir)) {
+			jar = files.filter(file -> file.getFileName().toString().endsWith(".jar")).findFirst();
+		}
+		if (jar.isEmpty()) {
+			System.out.println("Skipping CDS, no jar in " + dir);
+			return Optional.empty();
+		}
+		// an AOT cache of Java 25 and later, or a dynamic CDS archive
+		Path aotCache = dir.resolve("application.aot");
+		if (Files.isRegularFile(aotCache)) {
+			return Optional.of(new Variant("AOT cache",
+					List.of(java(), "-XX:AOTCache=" + aotCache, "-jar", jar.get().toString())));
+		}
+		Path archive = dir.resolve("application.jsa");
+		if (Files.isRegularFile(archive)) {
+			return Optional.of(new Variant("CDS",
+					List.of(java(), "-XX:SharedArchiveFile=" + archive, "-jar", jar.get().toString())));
+		}
+		System.out.println("Skipping CDS, no archive in " + dir);
+		return Optional.empty();
+	}
+
+	private static Optional<Variant> nativeImage(String executable) {
+		if (executable == null || !Files.isExecutable(Path.of(executable))) {
+			System.out.println("Skipping native, no image at " + executable);
+			return Optional.empty();
+		}
+		return Optional.of(new Variant("native", List.of(executable)));
+	}
+
+	private Result measure(Variant variant, Path reportDirectory) throws Exception {
+		long[] startups = new long[this.runs];
+		long[] rss = new long[this.runs];
+		for (int run = 0; run < this.runs; run++) {
+			int port = freePort();
+			List<String> command = new ArrayList<>(variant.command());
+			command.add("--server.port=" + port);
+			command.addAll(this.arguments);
+			Path log = reportDirectory.resolve(variant.name().replace(' ', '-') + "-" + run + ".log");
+			long start = System.nanoTime();
+			Process process = new ProcessBuilder(command).redirectErrorStream(true)
+				.redirectOutput(log.toFile())
+				.start();
+			try {
+				startups[run] = awaitFirstResponse(process, port, start, log);
+				rss[run] = residentKilobytes(process.pid());
+			}
+			finally {
+				process.destroy();
+				if (!process.waitFor(30, TimeUnit.SECONDS)) {
+					process.destroyForcibly().waitFor();
+				}
+			}
+			System.out.printf("%s run %d: first response after %d ms, %d MB resident%n", variant.name(), run + 1,
+					startups[run] / 1_000_000, rss[run] / 1024);
+		}
+		return new Result(variant.name(), median(startups), median(rss));
+	}
+
+	private long awaitFirstResponse(Process process, int port, long start, Path log) throws InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + this.path))
+			.timeout(Duration.ofSeconds(10))
+			.build();
+		long deadline = start + this.timeout.toNanos();
+		while (System.nanoTime() < deadline) {
+			if (!process.isAlive()) {
+				throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+			}
+			try {
+				HttpResponse<Void> response = this.client.send(request, HttpResponse.BodyHandlers.discarding());
+				if (response.statusCode() == 200) {
+					return System.nanoTime() - start;
+				}
+			}
+			catch (IOException ex) {
+				// not listening yet
+			}
+			Thread.sleep(5);
+		}
+		throw new IllegalStateException("No response within " + this.timeout + ", see " + log);
+	}
+
+	/**
+	 * Return the resident set size of the given process, from {@code /proc} on Linux and
+	 * from {@code ps} elsewhere.
+	 */
+	private static long residentKilobytes(long pid) throws IOException, InterruptedException {
+		Path status = Path.of("/proc", Long.toString(pid), "status");
+		if (Files.isReadable(status)) {
+			for (String line : Files.readAllLines(status)) {
+				if (line.startsWith("VmRSS:")) {
+					return Long.parseLong(line.replaceAll("\\D", ""));
+				}
+			}
+		}
+		Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+		String output = new String(ps.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+		ps.waitFor();
+		return output.isEmpty() ? 0 : Long.parseLong(output);
+	}
+
+	private static void print(PrintStream out, List<Result> results) {
+		out.printf("%-10s %22s %14s%n", "", "first response ms", "RSS MB");
+		for (Result result : results) {
+			out.printf("%-10s %22d %14d%n", result.name(), result.startupNanos() / 1_000_000,
+					result.residentKilobytes() / 1024);
+		}
+	}
+
+	private static long median(long[] values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static String java() {
+		return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+	}
+
+	private static String property(Map<String, String> arguments, String name, String defaultValue) {
+		return System.getProperty("startup." + name, arguments.getOrDefault(name, defaultValue));
+	}
+
+	private record Variant(String name, List<String> command) {
+
+	}
+
+	private record Result(String name, long startupNanos, long residentKilobytes) {
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import java.time.LocalDateTime;
+
+import org.springframework.samples.petclinic.model.BaseEntity;
+import org.springframework.samples.petclinic.owner.Visit;
+import org.springframework.samples.petclinic.vet.Vet;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+
+/**
+ * The slot of a {@link Vet} booked for a {@link Visit}.
+ */
+@Entity
+@Table(name = "appointments")
+public class Appointment extends BaseEntity {
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "vet_id")
+	private Vet vet;
+
+	@OneToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "visit_id")
+	private Visit visit;
+
+	@Column(name = "start_time")
+	private LocalDateTime start;
+
+	@Column(name = "end_time")
+	private LocalDateTime end;
+
+	protected Appointment() {
+	}
+
+	Appointment(Vet vet, Visit visit, TimeSlot slot) {
+		this.vet = vet;
+		this.visit = visit;
+		this.start = slot.start();
+		this.end = slot.end();
+	}
+
+	public Vet getVet() {
+		return this.vet;
+	}
+
+	public Visit getVisit() {
+		return this.visit;
+	}
+
+	public TimeSlot getSlot() {
+		return new TimeSlot(this.start, this.end);
+	}
+
+}
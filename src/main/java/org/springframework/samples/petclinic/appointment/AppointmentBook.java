@@ -0,0 +1,164 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.Visit;
+import org.springframework.samples.petclinic.owner.VisitRepository;
+import org.springframework.samples.petclinic.vet.Vet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Books the slots of vets for visits, making sure that a vet is never booked for
+ * overlapping slots. The booked slots of each vet are loaded into a {@link VetSchedule}
+ * on first use, which conflicts and free slots are looked up in rather than the database.
+ * <p>
+ * Bookings of the same vet are serialized by one of a fixed set of locks picked by the
+ * vet id, held from the conflict check until the appointment is committed, while bookings
+ * of other vets mostly proceed in parallel. The locks and schedules are local to this
+ * instance, so all bookings must go through a single instance of the application.
+ * </p>
+ */
+@Component
+public class AppointmentBook {
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+	private final Map<Integer, VetSchedule> schedules = new ConcurrentHashMap<>();
+
+	private final AppointmentRepository appointments;
+
+	private final VisitRepository visits;
+
+	private final EntityManager entityManager;
+
+	private final TransactionTemplate transactions;
+
+	public AppointmentBook(AppointmentRepository appointments, VisitRepository visits, EntityManager entityManager,
+			PlatformTransactionManager transactionManager) {
+		this.appointments = appointments;
+		this.visits = visits;
+		this.entityManager = entityManager;
+		this.transactions = new TransactionTemplate(transactionManager);
+		for (int i = 0; i < this.locks.length; i++) {
+			this.locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Book a slot of a vet for a new visit of a pet, inserting the visit together with
+	 * its appointment. The pet is looked up in the booking transaction, and the date of
+	 * the visit is set to the day the slot starts.
+	 * @param vetId the id of the vet
+	 * @param ownerId the id of the owner of the pet
+	 * @param petId the id of the pet
+	 * @param description the description of the visit
+	 * @param slot the slot to book
+	 * @return the inserted appointment
+	 * @throws AppointmentConflictException if the vet is booked for an overlapping slot
+	 * @throws IllegalArgumentException if the owner has no pet with the given id
+	 */
+	public Appointment book(int vetId, int ownerId, int petId, String description, TimeSlot slot) {
+		Lock lock = lockFor(vetId);
+		lock.lock();
+		try {
+			VetSchedule schedule = schedule(vetId);
+			TimeSlot conflict = schedule.findConflict(slot);
+			if (conflict != null) {
+				throw new AppointmentConflictException(vetId, slot, conflict);
+			}
+			Appointment appointment = this.transactions.execute(status -> {
+				Pet pet = this.entityManager.find(Pet.class, petId);
+				if (pet == null || pet.getOwner() == null || pet.getOwner().getId() != ownerId) {
+					throw new IllegalArgumentException("Pet not found with id: " + petId + " for owner " + ownerId);
+				}
+				Visit visit = new Visit();
+				visit.setDescription(description);
+				visit.setDate(slot.start().toLocalDate());
+				pet.addVisit(visit);
+				this.visits.save(visit);
+				return this.appointments
+					.save(new Appointment(this.entityManager.getReference(Vet.class, vetId), visit, slot));
+			});
+			// only once committed, a failed booking leaves the schedule as it was
+			schedule.add(slot);
+			return appointment;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Find the free slots of a vet within a window.
+	 * @param vetId the id of the vet
+	 * @param window the window to search
+	 * @param duration the minimum length of a free slot
+	 * @param limit the maximum number of free slots to return
+	 * @return the free slots, earliest first, cut to the window
+	 */
+	public List<TimeSlot> findFreeSlots(int vetId, TimeSlot window, Duration duration, int limit) {
+		return schedule(vetId).findFree(window, duration, limit);
+	}
+
+	/**
+	 * Discard the loaded schedules, they are reloaded on next use. Required when
+	 * appointments were booked by other means.
+	 */
+	public void invalidate() {
+		this.schedules.clear();
+	}
+
+	private VetSchedule schedule(int vetId) {
+		VetSchedule schedule = this.schedules.get(vetId);
+		if (schedule == null) {
+			Lock lock = lockFor(vetId);
+			lock.lock();
+			try {
+				schedule = this.schedules.get(vetId);
+				if (schedule == null) {
+					if (this.entityManager.find(Vet.class, vetId) == null) {
+						throw new IllegalArgumentException("Vet not found with id: " + vetId);
+					}
+					schedule = new VetSchedule(this.appointments.findSlotsByVetId(vetId));
+					this.schedules.put(vetId, schedule);
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+		return schedule;
+	}
+
+	private Lock lockFor(int vetId) {
+		return this.locks[Math.floorMod(vetId, LOCK_STRIPES)];
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a slot is booked that overlaps a slot the vet is already booked for.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class AppointmentConflictException extends RuntimeException {
+
+	private final TimeSlot conflict;
+
+	public AppointmentConflictException(int vetId, TimeSlot requested, TimeSlot conflict) {
+		super("Vet " + vetId + " is booked from " + conflict.start() + " to " + conflict.end()
+				+ ", which overlaps the requested slot from " + requested.start() + " to " + requested.end());
+		this.conflict = conflict;
+	}
+
+	/**
+	 * Return the booked slot that the requested one overlaps.
+	 * @return the booked slot
+	 */
+	public TimeSlot getConflict() {
+		return this.conflict;
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Books appointments of pets with vets, and finds the free slots of a vet. A conflicting
+ * booking is answered with {@code 409 Conflict}.
+ */
+@Controller
+class AppointmentController {
+
+	private static final Duration MIN_DURATION = Duration.ofMinutes(5);
+
+	private static final Duration MAX_DURATION = Duration.ofHours(8);
+
+	private static final int MAX_FREE_SLOTS = 100;
+
+	private final AppointmentBook book;
+
+	public AppointmentController(AppointmentBook book) {
+		this.book = book;
+	}
+
+	@PostMapping("/owners/{ownerId}/pets/{petId}/appointments")
+	@ResponseStatus(HttpStatus.CREATED)
+	public @ResponseBody BookedAppointment bookAppointment(@PathVariable("ownerId") int ownerId,
+			@PathVariable("petId") int petId, @RequestParam int vetId,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+			@RequestParam(defaultValue = "30") int minutes, @RequestParam String description) {
+		Duration duration = duration(minutes);
+		if (!StringUtils.hasText(description)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A description is required");
+		}
+		Appointment appointment = this.book.book(vetId, ownerId, petId, description, TimeSlot.of(start, duration));
+		return new BookedAppointment(appointment.getId(), vetId, appointment.getVisit().getId(), appointment.getSlot());
+	}
+
+	@GetMapping("/vets/{vetId}/appointments/free")
+	public @ResponseBody List<TimeSlot> findFreeSlots(@PathVariable("vetId") int vetId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+			@RequestParam(defaultValue = "30") int minutes, @RequestParam(defaultValue = "10") int limit) {
+		LocalDateTime start = (from != null) ? from : LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+		LocalDateTime end = (until != null) ? until : start.plusDays(7);
+		if (!start.isBefore(end)) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The window must end after it starts");
+		}
+		return this.book.findFreeSlots(vetId, new TimeSlot(start, end), duration(minutes),
+				Math.max(1, Math.min(limit, MAX_FREE_SLOTS)));
+	}
+
+	private static Duration duration(int minutes) {
+		Duration duration = Duration.ofMinutes(minutes);
+		if (duration.compareTo(MIN_DURATION) < 0 || duration.compareTo(MAX_DURATION) > 0) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "The duration must be between "
+					+ MIN_DURATION.toMinutes() + " and " + MAX_DURATION.toMinutes() + " minutes");
+		}
+		return duration;
+	}
+
+	/**
+	 * A booked appointment.
+	 *
+	 * @param id the id of the appointment
+	 * @param vetId the id of the vet
+	 * @param visitId the id of the visit
+	 * @param slot the booked slot
+	 */
+	record BookedAppointment(Integer id, int vetId, Integer visitId, TimeSlot slot) {
+
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository class for {@link Appointment} domain objects.
+ */
+public interface AppointmentRepository extends Repository<Appointment, Integer> {
+
+	/**
+	 * Retrieve the booked slots of a vet.
+	 * @param vetId the id of the vet
+	 * @return the slots, in no particular order
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT new org.springframework.samples.petclinic.appointment.TimeSlot(a.start, a.end) "
+			+ "FROM Appointment a WHERE a.vet.id = :vetId")
+	List<TimeSlot> findSlotsByVetId(int vetId);
+
+	/**
+	 * Insert a new {@link Appointment}.
+	 * @param appointment the appointment to insert
+	 * @return the inserted appointment
+	 */
+	Appointment save(Appointment appointment);
+
+}
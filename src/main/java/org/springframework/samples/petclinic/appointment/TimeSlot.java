@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.util.Assert;
+
+/**
+ * A half-open span of time, from its start up to but not including its end, so that one
+ * appointment may start when the previous one ends.
+ *
+ * @param start the start of the slot
+ * @param end the end of the slot, after its start
+ */
+public record TimeSlot(LocalDateTime start, LocalDateTime end) {
+
+	public TimeSlot {
+		Assert.notNull(start, "Start must not be null");
+		Assert.notNull(end, "End must not be null");
+		Assert.isTrue(start.isBefore(end), "Start must be before end");
+	}
+
+	public static TimeSlot of(LocalDateTime start, Duration duration) {
+		return new TimeSlot(start, start.plus(duration));
+	}
+
+	public Duration duration() {
+		return Duration.between(this.start, this.end);
+	}
+
+	public boolean overlaps(TimeSlot other) {
+		return this.start.isBefore(other.end) && other.start.isBefore(this.end);
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The booked slots of a single vet, indexed by start time. Booked slots never overlap, so
+ * the only slots that can overlap a new one are the last starting before its end, which
+ * makes a conflict check a single {@code O(log n)} lookup, and a search for free slots a
+ * walk from the slot preceding the window.
+ * <p>
+ * Lookups may run concurrently with each other and with {@link #add(TimeSlot)}, but a
+ * check for conflicts followed by an add must be guarded by the caller.
+ * </p>
+ */
+class VetSchedule {
+
+	private final NavigableMap<LocalDateTime, TimeSlot> slots = new ConcurrentSkipListMap<>();
+
+	VetSchedule(Iterable<TimeSlot> booked) {
+		booked.forEach(this::add);
+	}
+
+	/**
+	 * Return the booked slot that overlaps the given one.
+	 * @param slot the slot to check
+	 * @return the overlapping slot, or {@code null} if the slot is free
+	 */
+	TimeSlot findConflict(TimeSlot slot) {
+		Map.Entry<LocalDateTime, TimeSlot> before = this.slots.lowerEntry(slot.end());
+		return (before != null && before.getValue().overlaps(slot)) ? before.getValue() : null;
+	}
+
+	void add(TimeSlot slot) {
+		this.slots.put(slot.start(), slot);
+	}
+
+	/**
+	 * Return the free slots within a window that are at least as long as the given
+	 * duration.
+	 * @param window the window to search
+	 * @param duration the minimum length of a free slot
+	 * @param limit the maximum number of free slots to return
+	 * @return the free slots, earliest first, cut to the window
+	 */
+	List<TimeSlot> findFree(TimeSlot window, Duration duration, int limit) {
+		List<TimeSlot> free = new ArrayList<>();
+		LocalDateTime from = window.start();
+		Map.Entry<LocalDateTime, TimeSlot> before = this.slots.lowerEntry(from);
+		if (before != null && before.getValue().end().isAfter(from)) {
+			from = before.getValue().end();
+		}
+		for (TimeSlot booked : this.slots.subMap(from, true, window.end(), false).values()) {
+			addIfFits(free, from, booked.start(), duration);
+			if (free.size() == limit) {
+				return free;
+			}
+			if (booked.end().isAfter(from)) {
+				from = booked.end();
+			}
+		}
+		addIfFits(free, from, window.end(), duration);
+		return free;
+	}
+
+	int size() {
+		return this.slots.size();
+	}
+
+	private static void addIfFits(List<TimeSlot> free, LocalDateTime start, LocalDateTime end, Duration duration) {
+		if (!Duration.between(start, end).minus(duration).isNegative()) {
+			free.add(new TimeSlot(start, end));
+		}
+	}
+
+}
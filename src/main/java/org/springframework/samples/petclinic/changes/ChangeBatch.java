@@ -0,0 +1,30 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.util.List;
+
+/**
+ * A batch of changes read from the {@link ChangeFeed}.
+ *
+ * @param changes the changes, in the order they were recorded
+ * @param cursor the cursor to read the next batch after, the id of the last change or the
+ * requested cursor if there was none
+ * @param hasMore whether more changes could be read right away
+ */
+public record ChangeBatch(List<ChangeEvent> changes, long cursor, boolean hasMore) {
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.changes.ChangeLog.Change;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetDetailsUpdatedEvent;
+import org.springframework.samples.petclinic.owner.PetType;
+import org.springframework.samples.petclinic.owner.Visit;
+
+/**
+ * Records the owners, pets and visits inserted or updated through JPA in the
+ * {@link ChangeLog}, as part of the transaction that writes them.
+ * <p>
+ * Entity changes are captured by Hibernate event listeners and appended just before the
+ * transaction commits, once everything was flushed. Pet details are updated through
+ * {@code PetDetailsRepository}, which announces them with a
+ * {@link PetDetailsUpdatedEvent}; pet updates are captured from that event rather than
+ * again from the flush. Rows written with plain JDBC by the bulk importer are not
+ * captured.
+ * </p>
+ */
+class ChangeCapture implements PostInsertEventListener, PostUpdateEventListener,
+		ApplicationListener<PayloadApplicationEvent<PetDetailsUpdatedEvent>> {
+
+	private static final String OWNER = "owner";
+
+	private static final String PET = "pet";
+
+	private static final String VISIT = "visit";
+
+	private final ChangeLog log;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	ChangeCapture(ChangeLog log, JdbcTemplate jdbcTemplate) {
+		this.log = log;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		capture(event.getSession(), event.getEntity(), ChangeLog.INSERT);
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		if (!(event.getEntity() instanceof Pet)) {
+			capture(event.getSession(), event.getEntity(), ChangeLog.UPDATE);
+		}
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return false;
+	}
+
+	// an ApplicationListener rather than an @EventListener method, which is not detected
+	// on @Bean instances of org.springframework classes
+	@Override
+	public void onApplicationEvent(PayloadApplicationEvent<PetDetailsUpdatedEvent> event) {
+		onPetDetailsUpdated(event.getPayload());
+	}
+
+	private void onPetDetailsUpdated(PetDetailsUpdatedEvent event) {
+		Integer ownerId = this.jdbcTemplate.queryForObject("SELECT owner_id FROM pets WHERE id = ?", Integer.class,
+				event.petId());
+		if (ownerId != null) {
+			Change change = new Change(ownerId, PET, event.petId(), ChangeLog.UPDATE,
+					petData(event.name(), event.birthDate(), event.type()));
+			this.jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+				this.log.append(connection, change);
+				return null;
+			});
+		}
+	}
+
+	private void capture(EventSource session, Object entity, String operation) {
+		Change change = changeOf(entity, operation);
+		if (change != null) {
+			session.getActionQueue()
+				.registerProcess((BeforeTransactionCompletionProcess) completing -> completing
+					.doWork(connection -> this.log.append(connection, change)));
+		}
+	}
+
+	private static Change changeOf(Object entity, String operation) {
+		if (entity instanceof Owner owner) {
+			Map<String, Object> data = new LinkedHashMap<>();
+			data.put("firstName", owner.getFirstName());
+			data.put("lastName", owner.getLastName());
+			data.put("address", owner.getAddress());
+			data.put("city", owner.getCity());
+			data.put("telephone", owner.getTelephone());
+			return new Change(owner.getId(), OWNER, owner.getId(), operation, data);
+		}
+		if (entity instanceof Pet pet && pet.getOwner() != null) {
+			return new Change(pet.getOwner().getId(), PET, pet.getId(), operation,
+					petData(pet.getName(), pet.getBirthDate(), pet.getType()));
+		}
+		if (entity instanceof Visit visit && visit.getPet() != null && visit.getPet().getOwner() != null) {
+			Map<String, Object> data = new LinkedHashMap<>();
+			data.put("petId", visit.getPet().getId());
+			data.put("date", (visit.getDate() != null) ? visit.getDate().toString() : null);
+			data.put("description", visit.getDescription());
+			return new Change(visit.getPet().getOwner().getId(), VISIT, visit.getId(), operation, data);
+		}
+		return null;
+	}
+
+	private static Map<String, Object> petData(String name, LocalDate birthDate, PetType type) {
+		Map<String, Object> data = new LinkedHashMap<>();
+		data.put("name", name);
+		data.put("birthDate", (birthDate != null) ? birthDate.toString() : null);
+		data.put("type", (type != null) ? type.getName() : null);
+		return data;
+	}
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+/**
+ * A change to an owner, pet or visit as recorded in the {@code change_events} table.
+ *
+ * @param id the position of the change in the feed, used as the cursor to resume after it
+ * @param ownerId the id of the owner whose aggregate changed
+ * @param entity the kind of entity that changed, {@code owner}, {@code pet} or
+ * {@code visit}
+ * @param entityId the id of the entity that changed
+ * @param operation {@code insert} or {@code update}
+ * @param recordedAt when the change was written
+ * @param data the state of the entity after the change, as a JSON object
+ */
+public record ChangeEvent(long id, int ownerId, String entity, int entityId, String operation, Instant recordedAt,
+		@JsonRawValue String data) {
+
+}
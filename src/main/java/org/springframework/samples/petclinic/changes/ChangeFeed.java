@@ -0,0 +1,142 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Reads the changes recorded in the {@code change_events} table in batches, after a
+ * cursor returned by the previous batch. Changes are ordered by their id, which orders
+ * the changes of each owner as they were made.
+ * <p>
+ * Ids are taken when a change is written but become visible when its transaction commits,
+ * possibly after a change with a higher id. Only changes older than the
+ * {@link ChangeFeedProperties#settleTime() settle time} are read, so that a reader does
+ * not move past a change whose transaction has yet to commit.
+ * </p>
+ * <p>
+ * Ids may have gaps, e.g. from transactions that rolled back, so the highest id purged is
+ * kept in the {@code change_events_purged} table to tell whether a cursor points before
+ * changes that are gone.
+ * </p>
+ */
+public class ChangeFeed {
+
+	private static final Log logger = LogFactory.getLog(ChangeFeed.class);
+
+	private static final String SELECT = "SELECT id, owner_id, entity, entity_id, operation, recorded_at, payload "
+			+ "FROM change_events ";
+
+	private static final RowMapper<ChangeEvent> ROW_MAPPER = (rs, rowNum) -> new ChangeEvent(rs.getLong(1),
+			rs.getInt(2), rs.getString(3), rs.getInt(4), rs.getString(5), rs.getTimestamp(6).toInstant(),
+			rs.getString(7));
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final Clock clock;
+
+	private final Duration settleTime;
+
+	private final Duration retention;
+
+	ChangeFeed(JdbcTemplate jdbcTemplate, Clock clock, Duration settleTime, Duration retention) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.clock = clock;
+		this.settleTime = settleTime;
+		this.retention = retention;
+	}
+
+	/**
+	 * Read the changes recorded after the given cursor.
+	 * @param after the cursor of the previous batch, {@code 0} to start with the oldest
+	 * change retained
+	 * @param ownerId the owner to read the changes of, {@code null} for all owners
+	 * @param limit the maximum number of changes to read
+	 * @return the changes read
+	 * @throws ChangeCursorExpiredException if changes after the cursor were purged
+	 */
+	public ChangeBatch read(long after, Integer ownerId, int limit) {
+		checkCursor(after);
+		Timestamp settled = Timestamp.from(this.clock.instant().minus(this.settleTime));
+		// one more than requested, to tell whether there are more
+		List<ChangeEvent> changes = (ownerId != null)
+				? this.jdbcTemplate.query(
+						SELECT + "WHERE owner_id = ? AND id > ? AND recorded_at <= ? ORDER BY id LIMIT ?", ROW_MAPPER,
+						ownerId, after, settled, limit + 1)
+				: this.jdbcTemplate.query(SELECT + "WHERE id > ? AND recorded_at <= ? ORDER BY id LIMIT ?", ROW_MAPPER,
+						after, settled, limit + 1);
+		boolean hasMore = changes.size() > limit;
+		if (hasMore) {
+			changes = changes.subList(0, limit);
+		}
+		long cursor = changes.isEmpty() ? after : changes.get(changes.size() - 1).id();
+		return new ChangeBatch(List.copyOf(changes), cursor, hasMore);
+	}
+
+	/**
+	 * Check that no changes after the given cursor were purged.
+	 * @param after the cursor to check
+	 * @throws ChangeCursorExpiredException if changes after the cursor were purged
+	 */
+	public void checkCursor(long after) {
+		if (after > 0) {
+			Long purged = purgedMaxId();
+			if (purged != null && after < purged) {
+				throw new ChangeCursorExpiredException(after);
+			}
+		}
+	}
+
+	/**
+	 * Delete the changes recorded longer ago than the retention period. The highest id to
+	 * delete is recorded first, so that cursors before it expire even if the delete does
+	 * not complete.
+	 * @return the number of changes deleted
+	 */
+	public int purgeExpired() {
+		Timestamp expired = Timestamp.from(this.clock.instant().minus(this.retention));
+		Long maxId = this.jdbcTemplate.queryForObject("SELECT MAX(id) FROM change_events WHERE recorded_at < ?",
+				Long.class, expired);
+		if (maxId == null) {
+			return 0;
+		}
+		Long recorded = purgedMaxId();
+		if (recorded == null) {
+			this.jdbcTemplate.update("INSERT INTO change_events_purged (max_id) VALUES (?)", maxId);
+		}
+		else if (recorded < maxId) {
+			this.jdbcTemplate.update("UPDATE change_events_purged SET max_id = ?", maxId);
+		}
+		int purged = this.jdbcTemplate.update("DELETE FROM change_events WHERE recorded_at < ?", expired);
+		if (purged > 0 && logger.isDebugEnabled()) {
+			logger.debug("Purged " + purged + " changes past the retention period");
+		}
+		return purged;
+	}
+
+	private Long purgedMaxId() {
+		return this.jdbcTemplate.queryForObject("SELECT MAX(max_id) FROM change_events_purged", Long.class);
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.time.Clock;
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+/**
+ * Configures the capture of owner, pet and visit changes into the {@code change_events}
+ * table, the {@link ChangeFeed} reading them, and the tasks that poll the feed for the
+ * {@link ChangeStream} and purge changes past their retention.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+class ChangeFeedConfiguration {
+
+	@Bean
+	ChangeCapture changeCapture(JdbcTemplate jdbcTemplate) {
+		return new ChangeCapture(new ChangeLog(Clock.systemUTC()), jdbcTemplate);
+	}
+
+	/**
+	 * Register the {@link ChangeCapture} listeners while Hibernate builds the session
+	 * factory, rather than on the built one, so that nothing waits for the entity manager
+	 * factory when it is bootstrapped in the background.
+	 */
+	@Bean
+	HibernatePropertiesCustomizer changeCaptureRegistration(ChangeCapture capture) {
+		Integrator integrator = new Integrator() {
+
+			@Override
+			public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+					SessionFactoryImplementor sessionFactory) {
+				EventListenerRegistry listeners = sessionFactory.getServiceRegistry()
+					.getService(EventListenerRegistry.class);
+				listeners.appendListeners(EventType.POST_INSERT, capture);
+				listeners.appendListeners(EventType.POST_UPDATE, capture);
+			}
+
+			@Override
+			public void disintegrate(SessionFactoryImplementor sessionFactory,
+					SessionFactoryServiceRegistry serviceRegistry) {
+			}
+
+		};
+		return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+				(IntegratorProvider) () -> List.of(integrator));
+	}
+
+	@Bean
+	ChangeFeed changeFeed(JdbcTemplate jdbcTemplate, ChangeFeedProperties properties) {
+		return new ChangeFeed(jdbcTemplate, Clock.systemUTC(), properties.settleTime(), properties.retention());
+	}
+
+	@Bean
+	ChangeStream changeStream(ChangeFeed feed, ChangeFeedProperties properties) {
+		return new ChangeStream(feed, properties.maxBatchSize(), properties.streamTimeout());
+	}
+
+	@Bean
+	SchedulingConfigurer changeFeedTasks(ChangeFeed feed, ChangeStream stream, ChangeFeedProperties properties) {
+		return tasks -> {
+			tasks.addFixedDelayTask(stream::poll, properties.pollInterval());
+			tasks.addFixedDelayTask(feed::purgeExpired, properties.purgeInterval());
+		};
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Exposes the {@link ChangeFeed} as batches of changes after a cursor, and as a stream of
+ * Server-Sent Events.
+ */
+@Controller
+class ChangeFeedController {
+
+	private final ChangeFeed feed;
+
+	private final ChangeStream stream;
+
+	private final int maxBatchSize;
+
+	public ChangeFeedController(ChangeFeed feed, ChangeStream stream, ChangeFeedProperties properties) {
+		this.feed = feed;
+		this.stream = stream;
+		this.maxBatchSize = properties.maxBatchSize();
+	}
+
+	@GetMapping("/changes")
+	public @ResponseBody ChangeBatch changes(@RequestParam(defaultValue = "0") long after,
+			@RequestParam(required = false) Integer ownerId, @RequestParam(required = false) Integer limit) {
+		int size = (limit != null) ? Math.max(1, Math.min(limit, this.maxBatchSize)) : this.maxBatchSize;
+		return this.feed.read(after, ownerId, size);
+	}
+
+	@GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@RequestParam(defaultValue = "0") long after,
+			@RequestParam(required = false) Integer ownerId,
+			@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+		return this.stream.subscribe((lastEventId != null) ? lastEventId : after, ownerId);
+	}
+
+}
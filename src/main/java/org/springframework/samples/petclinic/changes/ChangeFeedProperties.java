@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the {@link ChangeFeed} and {@link ChangeStream}, e.g.
+ * {@code petclinic.changes.retention=7d}.
+ *
+ * @param retention how long changes are kept before they are purged
+ * @param settleTime how old a change must be before it is read, so that transactions that
+ * recorded a lower id but committed later are not skipped by a reader that already moved
+ * past it
+ * @param pollInterval how often new changes are looked for and sent to the streams
+ * @param purgeInterval how often changes past the retention are purged
+ * @param maxBatchSize the maximum number of changes read at once
+ * @param streamTimeout how long a stream stays open before the client has to reconnect
+ */
+@ConfigurationProperties("petclinic.changes")
+record ChangeFeedProperties(Duration retention, Duration settleTime, Duration pollInterval, Duration purgeInterval,
+		Integer maxBatchSize, Duration streamTimeout) {
+
+	ChangeFeedProperties {
+		retention = (retention != null) ? retention : Duration.ofDays(7);
+		settleTime = (settleTime != null) ? settleTime : Duration.ofSeconds(1);
+		pollInterval = (pollInterval != null) ? pollInterval : Duration.ofSeconds(1);
+		purgeInterval = (purgeInterval != null) ? purgeInterval : Duration.ofHours(1);
+		maxBatchSize = (maxBatchSize != null) ? maxBatchSize : 500;
+		streamTimeout = (streamTimeout != null) ? streamTimeout : Duration.ofMinutes(30);
+	}
+
+}
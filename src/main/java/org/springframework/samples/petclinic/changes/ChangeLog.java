@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Appends changes to the {@code change_events} table. Changes are written on the
+ * connection of the transaction that made them, so that they are committed, or rolled
+ * back, together.
+ */
+class ChangeLog {
+
+	static final String INSERT = "insert";
+
+	static final String UPDATE = "update";
+
+	private static final String INSERT_SQL = "INSERT INTO change_events "
+			+ "(owner_id, entity, entity_id, operation, recorded_at, payload) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	private final Clock clock;
+
+	ChangeLog(Clock clock) {
+		this.clock = clock;
+	}
+
+	void append(Connection connection, Change change) throws SQLException {
+		try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+			insert.setInt(1, change.ownerId());
+			insert.setString(2, change.entity());
+			insert.setInt(3, change.entityId());
+			insert.setString(4, change.operation());
+			insert.setTimestamp(5, Timestamp.from(this.clock.instant()));
+			insert.setString(6, toJson(change.data()));
+			insert.executeUpdate();
+		}
+	}
+
+	private String toJson(Map<String, Object> data) {
+		try {
+			return this.mapper.writeValueAsString(data);
+		}
+		catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Failed to write change data " + data, ex);
+		}
+	}
+
+	/**
+	 * A change to be appended.
+	 *
+	 * @param ownerId the id of the owner whose aggregate changed
+	 * @param entity the kind of entity that changed
+	 * @param entityId the id of the entity that changed
+	 * @param operation {@link #INSERT} or {@link #UPDATE}
+	 * @param data the state of the entity after the change, strings and numbers only
+	 */
+	record Change(int ownerId, String entity, int entityId, String operation, Map<String, Object> data) {
+
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Sends the changes read from the {@link ChangeFeed} to Server-Sent Events streams. Each
+ * event carries the id of its change as the event id, so that a client reconnecting with
+ * {@code Last-Event-ID} resumes where it left off.
+ * <p>
+ * The streams are served by {@link #poll() polling} the feed once for all of them, from
+ * the lowest cursor of any stream, rather than once per stream.
+ * </p>
+ */
+public class ChangeStream {
+
+	private final Map<SseEmitter, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+	private final ChangeFeed feed;
+
+	private final int batchSize;
+
+	private final Duration timeout;
+
+	ChangeStream(ChangeFeed feed, int batchSize, Duration timeout) {
+		this.feed = feed;
+		this.batchSize = batchSize;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Open a stream of the changes after the given cursor.
+	 * @param after the cursor to start after, {@code 0} to start with the oldest change
+	 * retained
+	 * @param ownerId the owner to stream the changes of, {@code null} for all owners
+	 * @return the stream
+	 * @throws ChangeCursorExpiredException if changes after the cursor were purged
+	 */
+	public SseEmitter subscribe(long after, Integer ownerId) {
+		this.feed.checkCursor(after);
+		SseEmitter emitter = new SseEmitter(this.timeout.toMillis());
+		emitter.onCompletion(() -> this.subscriptions.remove(emitter));
+		emitter.onTimeout(() -> this.subscriptions.remove(emitter));
+		emitter.onError(ex -> this.subscriptions.remove(emitter));
+		this.subscriptions.put(emitter, new Subscription(ownerId, after));
+		return emitter;
+	}
+
+	/**
+	 * Send the changes recorded since the last poll to all open streams.
+	 */
+	public synchronized void poll() {
+		while (!this.subscriptions.isEmpty()) {
+			// streams opened meanwhile are served from the next batch on
+			Map<SseEmitter, Subscription> current = Map.copyOf(this.subscriptions);
+			long after = current.values().stream().mapToLong(Subscription::cursor).min().getAsLong();
+			ChangeBatch batch;
+			try {
+				batch = this.feed.read(after, null, this.batchSize);
+			}
+			catch (ChangeCursorExpiredException ex) {
+				current.forEach((emitter, subscription) -> {
+					if (subscription.cursor() == after) {
+						this.subscriptions.remove(emitter);
+						emitter.completeWithError(ex);
+					}
+				});
+				continue;
+			}
+			for (ChangeEvent change : batch.changes()) {
+				current.forEach((emitter, subscription) -> {
+					if (subscription.accepts(change)) {
+						send(emitter, change);
+					}
+				});
+			}
+			current.values().forEach(subscription -> subscription.advance(batch.cursor()));
+			if (!batch.hasMore()) {
+				return;
+			}
+		}
+	}
+
+	int size() {
+		return this.subscriptions.size();
+	}
+
+	private void send(SseEmitter emitter, ChangeEvent change) {
+		try {
+			emitter.send(SseEmitter.event()
+				.id(Long.toString(change.id()))
+				.name("change")
+				.data(change, MediaType.APPLICATION_JSON));
+		}
+		catch (IOException | IllegalStateException ex) {
+			// the client went away, or the stream timed out
+			this.subscriptions.remove(emitter);
+			emitter.completeWithError(ex);
+		}
+	}
+
+	private static final class Subscription {
+
+		private final Integer ownerId;
+
+		private volatile long cursor;
+
+		Subscription(Integer ownerId, long cursor) {
+			this.ownerId = ownerId;
+			this.cursor = cursor;
+		}
+
+		long cursor() {
+			return this.cursor;
+		}
+
+		boolean accepts(ChangeEvent change) {
+			return change.id() > this.cursor && (this.ownerId == null || this.ownerId == change.ownerId());
+		}
+
+		void advance(long cursor) {
+			this.cursor = Math.max(this.cursor, cursor);
+		}
+
+	}
+
+}
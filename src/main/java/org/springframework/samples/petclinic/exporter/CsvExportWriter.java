@@ -0,0 +1,89 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+/**
+ * {@link ExportWriter} of CSV rows, one per owner, pet and visit, the first column giving
+ * the record type. Fields holding a comma, a double quote or a line break are quoted.
+ */
+class CsvExportWriter implements ExportWriter {
+
+	private final Writer writer;
+
+	CsvExportWriter(Writer writer) {
+		this.writer = writer;
+	}
+
+	@Override
+	public void owner(String firstName, String lastName, String address, String city, String telephone)
+			throws IOException {
+		this.writer.write("owner");
+		field(firstName);
+		field(lastName);
+		field(address);
+		field(city);
+		field(telephone);
+		this.writer.write('\n');
+	}
+
+	@Override
+	public void pet(String name, LocalDate birthDate, String type) throws IOException {
+		this.writer.write("pet");
+		field(name);
+		field(birthDate);
+		field(type);
+		this.writer.write('\n');
+	}
+
+	@Override
+	public void visit(LocalDate date, String description) throws IOException {
+		this.writer.write("visit");
+		field(date);
+		field(description);
+		this.writer.write('\n');
+	}
+
+	@Override
+	public void finish() throws IOException {
+		this.writer.flush();
+	}
+
+	private void field(LocalDate value) throws IOException {
+		this.writer.write(',');
+		if (value != null) {
+			this.writer.write(value.toString());
+		}
+	}
+
+	private void field(String value) throws IOException {
+		this.writer.write(',');
+		if (value == null) {
+			return;
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			this.writer.write(value);
+			return;
+		}
+		this.writer.write('"');
+		this.writer.write(value.replace("\"", "\"\""));
+		this.writer.write('"');
+	}
+
+}
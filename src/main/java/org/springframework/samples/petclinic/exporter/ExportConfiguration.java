@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the {@link OwnerExporter} and, when {@code petclinic.export.file} is set,
+ * exports to that file once the application has started. Run without a web server, e.g.
+ * with {@code --spring.main.web-application-type=none}, the application exits when the
+ * export is complete.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ExportProperties.class)
+class ExportConfiguration {
+
+	private static final Log logger = LogFactory.getLog(ExportConfiguration.class);
+
+	@Bean
+	@ConditionalOnProperty("petclinic.export.file")
+	ApplicationRunner exportRunner(OwnerExporter exporter, ExportProperties properties) {
+		return args -> {
+			Path file = Path.of(properties.file());
+			ExportReport report;
+			try (OutputStream out = Files.newOutputStream(file)) {
+				report = exporter.export(ExportFormat.forFileName(file.toString()), out);
+			}
+			logger.info(String.format("Exported %d owners, %d pets and %d visits to %s in %d ms (%.0f rows/s)",
+					report.owners(), report.pets(), report.visits(), file, report.duration().toMillis(),
+					report.rowsPerSecond()));
+		};
+	}
+
+}
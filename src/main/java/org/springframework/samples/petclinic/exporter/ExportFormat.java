@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.util.Locale;
+
+import org.springframework.http.MediaType;
+
+/**
+ * The formats of an export, the same that the
+ * {@link org.springframework.samples.petclinic.importer.BulkImporter} reads.
+ */
+public enum ExportFormat {
+
+	/**
+	 * One row per owner, pet and visit, the first column giving the record type.
+	 */
+	CSV("text/csv;charset=UTF-8", "csv"),
+
+	/**
+	 * One JSON document per owner, with its pets and their visits nested.
+	 */
+	NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson");
+
+	private final String contentType;
+
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return this.contentType;
+	}
+
+	public String getExtension() {
+		return this.extension;
+	}
+
+	/**
+	 * Return the format of the given file.
+	 * @param fileName the name of the file
+	 * @return {@link #NDJSON} if the name ends with {@code .ndjson} or {@code .jsonl},
+	 * {@link #CSV} otherwise
+	 */
+	public static ExportFormat forFileName(String fileName) {
+		String name = fileName.toLowerCase(Locale.ROOT);
+		return (name.endsWith(".ndjson") || name.endsWith(".jsonl")) ? NDJSON : CSV;
+	}
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the {@link OwnerExporter}.
+ *
+ * @param file the file exported once the application has started, if any, as NDJSON if
+ * its name ends with {@code .ndjson} or {@code .jsonl} and as CSV otherwise
+ * @param fetchSize the number of rows the JDBC driver fetches per round trip
+ */
+@ConfigurationProperties("petclinic.export")
+public record ExportProperties(String file, Integer fetchSize) {
+
+	public ExportProperties {
+		fetchSize = (fetchSize != null) ? fetchSize : 1000;
+	}
+
+}
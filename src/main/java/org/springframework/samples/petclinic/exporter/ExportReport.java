@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.time.Duration;
+
+/**
+ * Outcome of an {@link OwnerExporter} run.
+ *
+ * @param owners the number of owners written
+ * @param pets the number of pets written
+ * @param visits the number of visits written
+ * @param duration the time the export took
+ */
+public record ExportReport(long owners, long pets, long visits, Duration duration) {
+
+	/**
+	 * Return the number of records written, i.e. the number of CSV rows.
+	 * @return the number of owners, pets and visits
+	 */
+	public long rows() {
+		return this.owners + this.pets + this.visits;
+	}
+
+	/**
+	 * Return the export throughput.
+	 * @return the number of records written per second
+	 */
+	public double rowsPerSecond() {
+		long nanos = this.duration.toNanos();
+		return nanos > 0 ? rows() * 1e9 / nanos : 0;
+	}
+
+}
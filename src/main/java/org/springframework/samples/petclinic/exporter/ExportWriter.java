@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Writes the records of an export in the order of the owner, pet and visit graph: each
+ * pet follows its owner and each visit its pet.
+ */
+interface ExportWriter {
+
+	void owner(String firstName, String lastName, String address, String city, String telephone) throws IOException;
+
+	void pet(String name, LocalDate birthDate, String type) throws IOException;
+
+	void visit(LocalDate date, String description) throws IOException;
+
+	/**
+	 * Complete the output and flush it, without closing the underlying stream.
+	 * @throws IOException if the output cannot be written
+	 */
+	void finish() throws IOException;
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * {@link ExportWriter} of one JSON document per owner and line. The documents are
+ * generated as the records arrive, an owner is never held in memory as a whole.
+ */
+class NdjsonExportWriter implements ExportWriter {
+
+	private final JsonGenerator generator;
+
+	private boolean inOwner;
+
+	private boolean inPet;
+
+	NdjsonExportWriter(JsonGenerator generator) {
+		this.generator = generator;
+		this.generator.setRootValueSeparator(null);
+		this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	@Override
+	public void owner(String firstName, String lastName, String address, String city, String telephone)
+			throws IOException {
+		endOwner();
+		this.generator.writeStartObject();
+		this.generator.writeStringField("firstName", firstName);
+		this.generator.writeStringField("lastName", lastName);
+		this.generator.writeStringField("address", address);
+		this.generator.writeStringField("city", city);
+		this.generator.writeStringField("telephone", telephone);
+		this.generator.writeArrayFieldStart("pets");
+		this.inOwner = true;
+	}
+
+	@Override
+	public void pet(String name, LocalDate birthDate, String type) throws IOException {
+		endPet();
+		this.generator.writeStartObject();
+		this.generator.writeStringField("name", name);
+		writeDateField("birthDate", birthDate);
+		this.generator.writeStringField("type", type);
+		this.generator.writeArrayFieldStart("visits");
+		this.inPet = true;
+	}
+
+	@Override
+	public void visit(LocalDate date, String description) throws IOException {
+		this.generator.writeStartObject();
+		writeDateField("date", date);
+		this.generator.writeStringField("description", description);
+		this.generator.writeEndObject();
+	}
+
+	@Override
+	public void finish() throws IOException {
+		endOwner();
+		this.generator.flush();
+	}
+
+	private void endPet() throws IOException {
+		if (this.inPet) {
+			this.generator.writeEndArray();
+			this.generator.writeEndObject();
+			this.inPet = false;
+		}
+	}
+
+	private void endOwner() throws IOException {
+		if (this.inOwner) {
+			endPet();
+			this.generator.writeEndArray();
+			this.generator.writeEndObject();
+			this.generator.writeRaw('\n');
+			this.inOwner = false;
+		}
+	}
+
+	private void writeDateField(String name, LocalDate date) throws IOException {
+		if (date != null) {
+			this.generator.writeStringField(name, date.toString());
+		}
+		else {
+			this.generator.writeNullField(name);
+		}
+	}
+
+}
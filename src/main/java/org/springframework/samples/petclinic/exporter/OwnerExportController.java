@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.io.IOException;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Streams the {@link OwnerExporter export} of all owners, with their pets and visits, to
+ * the response as it is read from the database.
+ */
+@Controller
+class OwnerExportController {
+
+	private final OwnerExporter exporter;
+
+	public OwnerExportController(OwnerExporter exporter) {
+		this.exporter = exporter;
+	}
+
+	@GetMapping("/export/owners.csv")
+	public void exportCsv(HttpServletResponse response) throws IOException {
+		export(ExportFormat.CSV, response);
+	}
+
+	@GetMapping("/export/owners.ndjson")
+	public void exportNdjson(HttpServletResponse response) throws IOException {
+		export(ExportFormat.NDJSON, response);
+	}
+
+	private void export(ExportFormat format, HttpServletResponse response) throws IOException {
+		response.setContentType(format.getContentType());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				ContentDisposition.attachment().filename("owners." + format.getExtension()).build().toString());
+		this.exporter.export(format, response.getOutputStream());
+	}
+
+}
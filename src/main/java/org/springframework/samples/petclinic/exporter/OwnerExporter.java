@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Exports all owners with their pets and visits.
+ * <p>
+ * The graph is read with a single forward-only query ordered by owner, pet and visit,
+ * with a bounded {@link ExportProperties#fetchSize() fetch size}, and each row is written
+ * out as soon as it is read. Neither entities nor the result set are held in memory, so
+ * heap use does not depend on the number of rows. The query runs in a read-only
+ * transaction, which PostgreSQL requires to fetch with a cursor, and holds a connection
+ * until the output is written.
+ * </p>
+ */
+@Component
+public class OwnerExporter {
+
+	private static final String QUERY = """
+			SELECT o.id, o.first_name, o.last_name, o.address, o.city, o.telephone,
+			       p.id, p.name, p.birth_date, t.name, v.id, v.visit_date, v.description
+			FROM owners o
+			LEFT JOIN pets p ON p.owner_id = o.id
+			LEFT JOIN types t ON t.id = p.type_id
+			LEFT JOIN visits v ON v.pet_id = p.id
+			ORDER BY o.id, p.id, v.id""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final ObjectMapper objectMapper;
+
+	public OwnerExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper, ExportProperties properties) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(properties.fetchSize());
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Write all owners with their pets and visits to the given stream, which is flushed
+	 * but left open.
+	 * @param format the format to write
+	 * @param out the stream to write to
+	 * @return what was exported
+	 * @throws IOException if the output cannot be written
+	 */
+	public ExportReport export(ExportFormat format, OutputStream out) throws IOException {
+		ExportWriter writer = switch (format) {
+			case CSV -> new CsvExportWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+			case NDJSON ->
+				new NdjsonExportWriter(this.objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8));
+		};
+		long start = System.nanoTime();
+		GraphRowHandler handler = new GraphRowHandler(writer);
+		try {
+			this.transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.query(QUERY, handler));
+		}
+		catch (UncheckedIOException ex) {
+			throw ex.getCause();
+		}
+		writer.finish();
+		return new ExportReport(handler.owners, handler.pets, handler.visits,
+				Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private static LocalDate toLocalDate(Date date) {
+		return (date != null) ? date.toLocalDate() : null;
+	}
+
+	/**
+	 * Turns the joined rows back into owner, pet and visit records, relying on the rows
+	 * of an owner, and of a pet, being adjacent.
+	 */
+	private static final class GraphRowHandler implements RowCallbackHandler {
+
+		private final ExportWriter writer;
+
+		private int ownerId = -1;
+
+		private int petId = -1;
+
+		private long owners;
+
+		private long pets;
+
+		private long visits;
+
+		GraphRowHandler(ExportWriter writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			try {
+				int owner = rs.getInt(1);
+				if (owner != this.ownerId) {
+					this.ownerId = owner;
+					this.petId = -1;
+					this.writer.owner(rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+							rs.getString(6));
+					this.owners++;
+				}
+				int pet = rs.getInt(7);
+				if (rs.wasNull()) {
+					return;
+				}
+				if (pet != this.petId) {
+					this.petId = pet;
+					this.writer.pet(rs.getString(8), toLocalDate(rs.getDate(9)), rs.getString(10));
+					this.pets++;
+				}
+				rs.getInt(11);
+				if (!rs.wasNull()) {
+					this.writer.visit(toLocalDate(rs.getDate(12)), rs.getString(13));
+					this.visits++;
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
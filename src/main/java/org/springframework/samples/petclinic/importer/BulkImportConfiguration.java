@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.nio.file.Path;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures the {@link BulkImporter} and, when {@code petclinic.import.files} is set,
+ * imports the listed files once the application has started. Likewise generates a
+ * synthetic dataset with the {@link DatasetGenerator} when
+ * {@code petclinic.generate.owners} is set.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({ BulkImportProperties.class, DatasetProperties.class })
+class BulkImportConfiguration {
+
+	private static final Log logger = LogFactory.getLog(BulkImportConfiguration.class);
+
+	@Bean
+	@ConditionalOnProperty("petclinic.import.files")
+	ApplicationRunner bulkImportRunner(BulkImporter importer, BulkImportProperties properties) {
+		return args -> {
+			for (String file : properties.files()) {
+				ImportReport report = importer.importFile(Path.of(file));
+				logger.info(String.format(
+						"Imported %s: %d rows, %d owners, %d pets, %d visits, %d owners rejected in %d ms (%.0f rows/s)",
+						file, report.rows(), report.owners(), report.pets(), report.visits(), report.rejected(),
+						report.duration().toMillis(), report.rowsPerSecond()));
+				for (ImportReport.RowError error : report.errors()) {
+					logger.warn(file + " " + error);
+				}
+			}
+		};
+	}
+
+	@Bean
+	@ConditionalOnProperty("petclinic.generate.owners")
+	ApplicationRunner datasetGeneratorRunner(DatasetGenerator generator, DatasetProperties properties) {
+		return args -> {
+			DatasetGenerator.Report report = generator.generate(properties);
+			logger.info(String.format(
+					"Generated %d owners, %d pets, %d visits, %d vets, %d specialties with seed %d in %d ms (%.0f rows/s)",
+					report.owners(), report.pets(), report.visits(), report.vets(), report.specialties(),
+					properties.seed(), report.duration().toMillis(), report.rowsPerSecond()));
+		};
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the {@link BulkImporter}.
+ *
+ * @param files the files imported once the application has started, if any
+ * @param batchSize the number of owners, with their pets and visits, written per JDBC
+ * batch and transaction
+ * @param maxErrors the maximum number of row errors kept in an {@link ImportReport}
+ */
+@ConfigurationProperties("petclinic.import")
+public record BulkImportProperties(List<String> files, Integer batchSize, Integer maxErrors) {
+
+	public BulkImportProperties {
+		files = (files != null) ? files : List.of();
+		batchSize = (batchSize != null) ? batchSize : 500;
+		maxErrors = (maxErrors != null) ? maxErrors : 1000;
+	}
+
+}
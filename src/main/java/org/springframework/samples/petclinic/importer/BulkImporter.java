@@ -0,0 +1,213 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.importer.ImportReport.RowError;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.OwnerLastNameIndex;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetType;
+import org.springframework.samples.petclinic.owner.PetTypeRegistry;
+import org.springframework.samples.petclinic.owner.PetValidator;
+import org.springframework.samples.petclinic.owner.Visit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports owners with their pets and visits from CSV or NDJSON files.
+ * <p>
+ * The file is streamed one owner at a time, so memory use depends on the batch size
+ * rather than on the size of the file. Each owner is validated with the same rules as the
+ * web forms and rejected as a whole if any of its rows is invalid. Valid owners are
+ * written with JDBC batches, one transaction per {@link BulkImportProperties#batchSize()
+ * batch}, which bypasses the persistence context and the second-level cache; the rows are
+ * new, so no cached state is affected.
+ * </p>
+ */
+@Component
+public class BulkImporter {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final EntityManager entityManager;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final PetTypeRegistry petTypes;
+
+	private final Validator validator;
+
+	private final ObjectMapper objectMapper;
+
+	private final ObjectProvider<OwnerLastNameIndex> lastNameIndex;
+
+	private final BulkImportProperties properties;
+
+	private final PetValidator petValidator = new PetValidator();
+
+	public BulkImporter(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+			PlatformTransactionManager transactionManager, PetTypeRegistry petTypes, Validator validator,
+			ObjectMapper objectMapper, ObjectProvider<OwnerLastNameIndex> lastNameIndex,
+			BulkImportProperties properties) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.petTypes = petTypes;
+		this.validator = validator;
+		this.objectMapper = objectMapper;
+		this.lastNameIndex = lastNameIndex;
+		this.properties = properties;
+	}
+
+	/**
+	 * Import the given file, read as NDJSON if its name ends with {@code .ndjson} or
+	 * {@code .jsonl} and as CSV otherwise.
+	 * @param file the file to import
+	 * @return what was imported and rejected
+	 * @throws IOException if the file cannot be read
+	 */
+	public ImportReport importFile(Path file) throws IOException {
+		String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+		BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+		Function<String, PetType> types = this.petTypes::findByName;
+		OwnerReader owners = (name.endsWith(".ndjson") || name.endsWith(".jsonl"))
+				? new NdjsonOwnerReader(reader, this.objectMapper, types) : new CsvOwnerReader(reader, types);
+		try (owners) {
+			return importOwners(owners);
+		}
+	}
+
+	ImportReport importOwners(OwnerReader reader) throws IOException {
+		long start = System.nanoTime();
+		OwnerBatchWriter writer = new OwnerBatchWriter(this.jdbcTemplate, this.entityManager);
+		Progress progress = new Progress(this.properties.maxErrors());
+		List<Owner> batch = new ArrayList<>(this.properties.batchSize());
+		ParsedOwner parsed;
+		while ((parsed = reader.read()) != null) {
+			progress.rows += parsed.rows();
+			List<RowError> errors = new ArrayList<>(parsed.errors());
+			if (errors.isEmpty()) {
+				validate(parsed, errors);
+			}
+			if (!errors.isEmpty()) {
+				progress.reject(errors);
+				continue;
+			}
+			batch.add(parsed.owner());
+			if (batch.size() >= this.properties.batchSize()) {
+				flush(writer, batch, progress);
+			}
+		}
+		flush(writer, batch, progress);
+		if (progress.owners > 0) {
+			this.lastNameIndex.ifAvailable(OwnerLastNameIndex::rebuild);
+		}
+		return new ImportReport(progress.rows, progress.owners, progress.pets, progress.visits, progress.rejected,
+				List.copyOf(progress.errors), Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private void flush(OwnerBatchWriter writer, List<Owner> batch, Progress progress) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		OwnerBatchWriter.Counts counts = this.transactionTemplate.execute(status -> writer.write(batch));
+		progress.owners += batch.size();
+		progress.pets += counts.pets();
+		progress.visits += counts.visits();
+		batch.clear();
+	}
+
+	private void validate(ParsedOwner parsed, List<RowError> errors) {
+		Owner owner = parsed.owner();
+		for (ConstraintViolation<Owner> violation : this.validator.validate(owner)) {
+			errors.add(new RowError(parsed.line(), violation.getPropertyPath() + ": " + violation.getMessage()));
+		}
+		List<Pet> pets = owner.getPets();
+		for (int i = 0; i < pets.size(); i++) {
+			Pet pet = pets.get(i);
+			String path = "pets[" + i + "]";
+			Errors result = new BeanPropertyBindingResult(pet, "pet");
+			this.petValidator.validate(pet, result);
+			for (FieldError error : result.getFieldErrors()) {
+				errors
+					.add(new RowError(parsed.line(), path + "." + error.getField() + ": " + error.getDefaultMessage()));
+			}
+			int j = 0;
+			for (Visit visit : pet.getVisits()) {
+				for (ConstraintViolation<Visit> violation : this.validator.validate(visit)) {
+					errors.add(new RowError(parsed.line(), path + ".visits[" + j + "]." + violation.getPropertyPath()
+							+ ": " + violation.getMessage()));
+				}
+				j++;
+			}
+		}
+	}
+
+	private static class Progress {
+
+		private final int maxErrors;
+
+		private final List<RowError> errors = new ArrayList<>();
+
+		private long rows;
+
+		private long owners;
+
+		private long pets;
+
+		private long visits;
+
+		private long rejected;
+
+		Progress(int maxErrors) {
+			this.maxErrors = maxErrors;
+		}
+
+		void reject(List<RowError> rowErrors) {
+			this.rejected++;
+			for (RowError error : rowErrors) {
+				if (this.errors.size() < this.maxErrors) {
+					this.errors.add(error);
+				}
+			}
+		}
+
+	}
+
+}
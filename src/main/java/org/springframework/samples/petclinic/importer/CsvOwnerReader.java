@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.samples.petclinic.importer.ImportReport.RowError;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetType;
+import org.springframework.samples.petclinic.owner.Visit;
+
+/**
+ * {@link OwnerReader} of CSV files where the first column gives the record type. A pet
+ * belongs to the owner above it and a visit to the pet above it, e.g.
+ *
+ * <pre class="code">
+ * owner,George,Franklin,110 W. Liberty St.,Madison,6085551023
+ * pet,Leo,2010-09-07,cat
+ * visit,2013-01-01,rabies shot
+ * </pre>
+ *
+ * Fields may be enclosed in double quotes, a quote inside such a field being doubled.
+ * Empty lines and lines starting with {@code #} are skipped.
+ */
+class CsvOwnerReader implements OwnerReader {
+
+	private final BufferedReader reader;
+
+	private final Function<String, PetType> petTypes;
+
+	private long lineNumber;
+
+	// first row of the next owner, read ahead while looking for the end of the current
+	// one
+	private String pending;
+
+	CsvOwnerReader(BufferedReader reader, Function<String, PetType> petTypes) {
+		this.reader = reader;
+		this.petTypes = petTypes;
+	}
+
+	@Override
+	public ParsedOwner read() throws IOException {
+		List<RowError> errors = new ArrayList<>();
+		String line = nextLine();
+		int rows = 0;
+		while (line != null && !line.startsWith("owner,")) {
+			rows++;
+			errors.add(new RowError(this.lineNumber, "expected an owner row"));
+			line = nextLine();
+		}
+		if (line == null) {
+			return errors.isEmpty() ? null : new ParsedOwner(this.lineNumber, rows, new Owner(), errors);
+		}
+		long start = this.lineNumber;
+		Owner owner = owner(parse(line), errors);
+		rows++;
+		Pet pet = null;
+		while ((line = nextLine()) != null && !line.startsWith("owner,")) {
+			rows++;
+			List<String> fields = parse(line);
+			switch (fields.get(0)) {
+				case "pet" -> {
+					pet = pet(fields, errors);
+					owner.addPet(pet);
+				}
+				case "visit" -> {
+					if (pet == null) {
+						errors.add(new RowError(this.lineNumber, "visit row without a pet"));
+					}
+					else {
+						pet.addVisit(visit(fields, errors));
+					}
+				}
+				default -> errors.add(new RowError(this.lineNumber, "unknown record type " + fields.get(0)));
+			}
+		}
+		this.pending = line;
+		return new ParsedOwner(start, rows, owner, errors);
+	}
+
+	private Owner owner(List<String> fields, List<RowError> errors) {
+		Owner owner = new Owner();
+		if (fields.size() != 6) {
+			errors.add(new RowError(this.lineNumber, "expected 6 fields for an owner, found " + fields.size()));
+			return owner;
+		}
+		owner.setFirstName(fields.get(1));
+		owner.setLastName(fields.get(2));
+		owner.setAddress(fields.get(3));
+		owner.setCity(fields.get(4));
+		owner.setTelephone(fields.get(5));
+		return owner;
+	}
+
+	private Pet pet(List<String> fields, List<RowError> errors) {
+		Pet pet = new Pet();
+		if (fields.size() != 4) {
+			errors.add(new RowError(this.lineNumber, "expected 4 fields for a pet, found " + fields.size()));
+			return pet;
+		}
+		pet.setName(fields.get(1));
+		pet.setBirthDate(date(fields.get(2), errors));
+		if (!fields.get(3).isEmpty()) {
+			pet.setType(this.petTypes.apply(fields.get(3)));
+			if (pet.getType() == null) {
+				errors.add(new RowError(this.lineNumber, "unknown pet type " + fields.get(3)));
+			}
+		}
+		return pet;
+	}
+
+	private Visit visit(List<String> fields, List<RowError> errors) {
+		Visit visit = new Visit();
+		if (fields.size() != 3) {
+			errors.add(new RowError(this.lineNumber, "expected 3 fields for a visit, found " + fields.size()));
+			return visit;
+		}
+		LocalDate date = date(fields.get(1), errors);
+		if (date != null) {
+			visit.setDate(date);
+		}
+		visit.setDescription(fields.get(2));
+		return visit;
+	}
+
+	private LocalDate date(String value, List<RowError> errors) {
+		if (value.isEmpty()) {
+			return null;
+		}
+		try {
+			return LocalDate.parse(value);
+		}
+		catch (DateTimeParseException ex) {
+			errors.add(new RowError(this.lineNumber, "invalid date " + value));
+			return null;
+		}
+	}
+
+	private String nextLine() throws IOException {
+		if (this.pending != null) {
+			String line = this.pending;
+			this.pending = null;
+			return line;
+		}
+		String line;
+		while ((line = this.reader.readLine()) != null) {
+			this.lineNumber++;
+			if (!line.isBlank() && !line.startsWith("#")) {
+				return line;
+			}
+		}
+		return null;
+	}
+
+	static List<String> parse(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				}
+				else if (c == '"') {
+					quoted = false;
+				}
+				else {
+					field.append(c);
+				}
+			}
+			else if (c == '"') {
+				quoted = true;
+			}
+			else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			}
+			else {
+				field.append(c);
+			}
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetType;
+import org.springframework.samples.petclinic.owner.Visit;
+import org.springframework.samples.petclinic.vet.Specialty;
+import org.springframework.samples.petclinic.vet.Vet;
+
+/**
+ * Synthetic owners, pets, visits, vets and specialties with a realistic skew: a few
+ * surnames, cities and pet types are much more common than the rest, next to a long tail
+ * of rare surnames, and while most pets have a handful of visits a few have hundreds.
+ * <p>
+ * Every entity is a function of the seed and its index alone, drawn from a random
+ * generator seeded with both, so that the same seed gives the same dataset however the
+ * indexes are spread over threads and batches. Dates are relative to a fixed day rather
+ * than today for the same reason.
+ * </p>
+ */
+class DatasetContent {
+
+	static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+
+	private static final int MAX_VISITS_PER_PET = 250;
+
+	private static final List<String> SURNAMES = List.of("Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia",
+			"Miller", "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson",
+			"Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez",
+			"Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres",
+			"Nguyen", "Hill", "Flores", "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell",
+			"Carter", "Roberts");
+
+	private static final List<String> SYLLABLES = List.of("ab", "al", "an", "ar", "bel", "ber", "bro", "cal", "dor",
+			"el", "en", "fin", "gar", "hal", "ist", "jen", "kor", "lan", "mor", "nel", "ost", "par", "quin", "ros",
+			"sel", "ton", "ul", "var", "wen", "yor", "zan");
+
+	private static final List<String> FIRST_NAMES = List.of("James", "Mary", "Robert", "Patricia", "John", "Jennifer",
+			"Michael", "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+			"Thomas", "Sarah", "Charles", "Karen", "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Betty", "Mark",
+			"Sandra", "Paul", "Ashley", "Steven", "Emily", "Andrew", "Donna", "Kenneth", "Michelle", "Joshua", "Carol",
+			"Kevin", "Amanda", "Brian", "Melissa", "George", "Deborah", "Timothy", "Stephanie");
+
+	private static final List<String> CITIES = List.of("Madison", "Sun Prairie", "McFarland", "Windsor", "Monona",
+			"Waunakee", "Middleton", "Verona", "Fitchburg", "Stoughton", "Oregon", "Cottage Grove", "DeForest",
+			"Mount Horeb", "Cross Plains", "Belleville", "Deerfield", "Marshall", "Mazomanie", "Black Earth");
+
+	private static final List<String> STREETS = List.of("Main St.", "Oak Ave.", "Maple St.", "Park Ave.", "Pine St.",
+			"Cedar Ln.", "Elm St.", "Washington Ave.", "Lake St.", "Hill Rd.", "Church St.", "Mill Rd.", "River Rd.",
+			"Spring St.", "Ridge Rd.");
+
+	private static final List<String> PET_NAMES = List.of("Bella", "Max", "Luna", "Charlie", "Lucy", "Cooper", "Daisy",
+			"Milo", "Bailey", "Rocky", "Molly", "Buddy", "Lola", "Tucker", "Sadie", "Bear", "Stella", "Duke", "Chloe",
+			"Oliver", "Penny", "Leo", "Zoe", "Jack", "Coco", "Toby", "Ruby", "Loki", "Nala", "Simba", "Pepper", "Oscar",
+			"Rosie", "Ginger", "Shadow", "Whiskers", "Tiger", "Smokey", "Pumpkin", "Mochi");
+
+	private static final List<String> DESCRIPTIONS = List.of("annual checkup", "vaccination", "rabies shot",
+			"dental cleaning", "neutered", "spayed", "limping", "skin allergy", "ear infection", "upset stomach",
+			"nail trim", "weight check", "eye infection", "x-ray", "follow-up");
+
+	private static final List<String> SPECIALTIES = List.of("radiology", "surgery", "dentistry", "cardiology",
+			"dermatology", "oncology", "neurology", "ophthalmology", "anesthesiology", "internal medicine",
+			"emergency care", "nutrition", "behavior", "exotics", "orthopedics");
+
+	private static final Skewed<String> SURNAME = Skewed.zipf(SURNAMES, 1.0);
+
+	private static final Skewed<String> FIRST_NAME = Skewed.zipf(FIRST_NAMES, 0.5);
+
+	private static final Skewed<String> CITY = Skewed.zipf(CITIES, 1.2);
+
+	private static final Skewed<String> PET_NAME = Skewed.zipf(PET_NAMES, 0.8);
+
+	private static final Skewed<String> DESCRIPTION = Skewed.zipf(DESCRIPTIONS, 1.0);
+
+	private static final Skewed<Integer> PETS_PER_OWNER = Skewed.weighted(List.of(1, 2, 3, 4, 5),
+			pets -> new double[] { 50, 30, 12, 5, 3 }[pets - 1]);
+
+	private final long seed;
+
+	private final Skewed<PetType> petType;
+
+	private final Skewed<Integer> specialty;
+
+	DatasetContent(long seed, List<PetType> petTypes, int specialties) {
+		this.seed = seed;
+		this.petType = Skewed.weighted(petTypes, DatasetContent::popularity);
+		this.specialty = (specialties > 0) ? Skewed.zipf(IntStream.range(0, specialties).boxed().toList(), 1.0) : null;
+	}
+
+	/**
+	 * Return the owner with the given index, with its pets and their visits.
+	 * @param index the index of the owner
+	 * @return a new owner
+	 */
+	Owner owner(long index) {
+		SplittableRandom random = random(1, index);
+		Owner owner = new Owner();
+		owner.setFirstName(FIRST_NAME.next(random));
+		// most owners share a popular surname, the others have one of many rare ones
+		owner.setLastName((random.nextDouble() < 0.7) ? SURNAME.next(random) : rareSurname(random));
+		owner.setAddress((1 + random.nextInt(9999)) + " " + STREETS.get(random.nextInt(STREETS.size())));
+		owner.setCity(CITY.next(random));
+		owner.setTelephone(String.format("%010d", random.nextLong(10_000_000_000L)));
+		int pets = PETS_PER_OWNER.next(random);
+		for (int i = 0; i < pets; i++) {
+			Pet pet = new Pet();
+			pet.setName(PET_NAME.next(random) + ((i > 0) ? " " + (i + 1) : ""));
+			pet.setBirthDate(REFERENCE_DATE.minusDays(30 + random.nextInt(20 * 365)));
+			pet.setType(this.petType.next(random));
+			owner.addPet(pet);
+			int visits = visits(random);
+			long days = ChronoUnit.DAYS.between(pet.getBirthDate(), REFERENCE_DATE);
+			for (int j = 0; j < visits; j++) {
+				Visit visit = new Visit();
+				visit.setDate(pet.getBirthDate().plusDays(random.nextLong(days)));
+				visit.setDescription(DESCRIPTION.next(random));
+				pet.addVisit(visit);
+			}
+		}
+		return owner;
+	}
+
+	/**
+	 * Return the specialty with the given index.
+	 * @param index the index of the specialty
+	 * @return a new specialty
+	 */
+	Specialty specialty(int index) {
+		Specialty specialty = new Specialty();
+		String name = SPECIALTIES.get(index % SPECIALTIES.size());
+		int round = index / SPECIALTIES.size();
+		specialty.setName((round > 0) ? name + " " + (round + 1) : name);
+		return specialty;
+	}
+
+	/**
+	 * Return the vet with the given index, with up to three of the given specialties, the
+	 * first ones being the most common.
+	 * @param index the index of the vet
+	 * @param specialties the specialties to pick from, as many as this content was
+	 * created for
+	 * @return a new vet
+	 */
+	Vet vet(long index, List<Specialty> specialties) {
+		SplittableRandom random = random(2, index);
+		Vet vet = new Vet();
+		vet.setFirstName(FIRST_NAME.next(random));
+		vet.setLastName((random.nextDouble() < 0.7) ? SURNAME.next(random) : rareSurname(random));
+		if (this.specialty != null) {
+			int count = random.nextInt(4);
+			for (int i = 0; i < count; i++) {
+				vet.addSpecialty(specialties.get(this.specialty.next(random)));
+			}
+		}
+		return vet;
+	}
+
+	private SplittableRandom random(long kind, long index) {
+		// SplittableRandom mixes its seed, so neighbouring indexes give unrelated values
+		return new SplittableRandom(this.seed * 31 + kind * 0x9E3779B97F4A7C15L + index * 0xBF58476D1CE4E5B9L);
+	}
+
+	private static String rareSurname(SplittableRandom random) {
+		int syllables = 2 + random.nextInt(2);
+		StringBuilder name = new StringBuilder();
+		for (int i = 0; i < syllables; i++) {
+			name.append(SYLLABLES.get(random.nextInt(SYLLABLES.size())));
+		}
+		return name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
+	}
+
+	private static int visits(SplittableRandom random) {
+		// Pareto distributed, mostly none to a few, with a long tail
+		double pareto = Math.pow(1 - random.nextDouble(), -1 / 1.5);
+		return (int) Math.min(pareto - 1, MAX_VISITS_PER_PET);
+	}
+
+	private static double popularity(PetType type) {
+		return switch (String.valueOf(type.getName()).toLowerCase(Locale.ROOT)) {
+			case "dog" -> 40;
+			case "cat" -> 35;
+			case "bird" -> 8;
+			case "hamster" -> 7;
+			default -> 3;
+		};
+	}
+
+	/**
+	 * Picks values at random with fixed weights.
+	 */
+	private static final class Skewed<T> {
+
+		private final List<T> values;
+
+		private final double[] cumulative;
+
+		private Skewed(List<T> values, double[] weights) {
+			this.values = List.copyOf(values);
+			this.cumulative = new double[weights.length];
+			double total = 0;
+			for (int i = 0; i < weights.length; i++) {
+				total += weights[i];
+				this.cumulative[i] = total;
+			}
+		}
+
+		/**
+		 * Weigh the value at rank {@code k}, starting at 1, by {@code 1 / k^exponent}.
+		 */
+		static <T> Skewed<T> zipf(List<T> values, double exponent) {
+			return new Skewed<>(values,
+					IntStream.rangeClosed(1, values.size())
+						.mapToDouble(rank -> 1 / Math.pow(rank, exponent))
+						.toArray());
+		}
+
+		static <T> Skewed<T> weighted(List<T> values, ToDoubleFunction<T> weight) {
+			return new Skewed<>(values, values.stream().mapToDouble(weight).toArray());
+		}
+
+		T next(SplittableRandom random) {
+			double point = random.nextDouble() * this.cumulative[this.cumulative.length - 1];
+			int index = Arrays.binarySearch(this.cumulative, point);
+			index = (index < 0) ? -index - 1 : index + 1;
+			return this.values.get(Math.min(index, this.values.size() - 1));
+		}
+
+	}
+
+}
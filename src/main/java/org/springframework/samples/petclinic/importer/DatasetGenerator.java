@@ -0,0 +1,222 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.model.EntityIds;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.OwnerLastNameIndex;
+import org.springframework.samples.petclinic.owner.PetTypeRegistry;
+import org.springframework.samples.petclinic.vet.Specialty;
+import org.springframework.samples.petclinic.vet.Vet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Fills the database with a synthetic dataset of any size, for benchmarking search,
+ * pagination and caching at production scale. The content comes from
+ * {@link DatasetContent} and is the same for the same seed; the ids are taken from the
+ * sequence as the rows are written, so they only repeat with a parallelism of one on an
+ * identical database.
+ * <p>
+ * Owners are generated and written in batches by several threads, each batch with the
+ * {@link OwnerBatchWriter} of the {@link BulkImporter} in a transaction of its own. The
+ * rows are added to whatever the database already holds, and the caches are cleared
+ * afterwards as vets are listed from them.
+ * </p>
+ */
+@Component
+public class DatasetGenerator {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final EntityManager entityManager;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final PetTypeRegistry petTypes;
+
+	private final ObjectProvider<CacheManager> cacheManager;
+
+	private final ObjectProvider<OwnerLastNameIndex> lastNameIndex;
+
+	public DatasetGenerator(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+			PlatformTransactionManager transactionManager, PetTypeRegistry petTypes,
+			ObjectProvider<CacheManager> cacheManager, ObjectProvider<OwnerLastNameIndex> lastNameIndex) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.petTypes = petTypes;
+		this.cacheManager = cacheManager;
+		this.lastNameIndex = lastNameIndex;
+	}
+
+	/**
+	 * Generate and write a dataset.
+	 * @param properties the size and seed of the dataset
+	 * @return what was written
+	 * @throws InterruptedException if interrupted while writing
+	 */
+	public Report generate(DatasetProperties properties) throws InterruptedException {
+		long start = System.nanoTime();
+		DatasetContent content = new DatasetContent(properties.seed(), this.petTypes.getPetTypes(),
+				properties.specialties());
+		List<Specialty> specialties = writeSpecialties(content, properties.specialties());
+		writeVets(content, properties.vets(), specialties, properties.batchSize());
+		Counts counts = writeOwners(content, properties);
+		evictCaches();
+		return new Report(properties.owners(), counts.pets.get(), counts.visits.get(), properties.vets(),
+				properties.specialties(), Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private List<Specialty> writeSpecialties(DatasetContent content, int count) {
+		List<Specialty> specialties = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			specialties.add(content.specialty(i));
+		}
+		this.transactionTemplate.executeWithoutResult(status -> {
+			specialties.forEach(specialty -> EntityIds.assign(this.entityManager, specialty));
+			this.jdbcTemplate.batchUpdate("INSERT INTO specialties (id, name) VALUES (?, ?)", specialties, 1000,
+					(ps, specialty) -> {
+						ps.setInt(1, specialty.getId());
+						ps.setString(2, specialty.getName());
+					});
+		});
+		return specialties;
+	}
+
+	private void writeVets(DatasetContent content, int count, List<Specialty> specialties, int batchSize) {
+		for (int from = 0; from < count; from += batchSize) {
+			List<Vet> vets = new ArrayList<>();
+			for (int i = from; i < Math.min(from + batchSize, count); i++) {
+				vets.add(content.vet(i, specialties));
+			}
+			this.transactionTemplate.executeWithoutResult(status -> {
+				List<int[]> vetSpecialties = new ArrayList<>();
+				for (Vet vet : vets) {
+					EntityIds.assign(this.entityManager, vet);
+					vet.getSpecialties()
+						.forEach(specialty -> vetSpecialties.add(new int[] { vet.getId(), specialty.getId() }));
+				}
+				this.jdbcTemplate.batchUpdate("INSERT INTO vets (id, first_name, last_name) VALUES (?, ?, ?)", vets,
+						batchSize, (ps, vet) -> {
+							ps.setInt(1, vet.getId());
+							ps.setString(2, vet.getFirstName());
+							ps.setString(3, vet.getLastName());
+						});
+				this.jdbcTemplate.batchUpdate("INSERT INTO vet_specialties (vet_id, specialty_id) VALUES (?, ?)",
+						vetSpecialties, batchSize, (ps, row) -> {
+							ps.setInt(1, row[0]);
+							ps.setInt(2, row[1]);
+						});
+			});
+		}
+	}
+
+	private Counts writeOwners(DatasetContent content, DatasetProperties properties) throws InterruptedException {
+		OwnerBatchWriter writer = new OwnerBatchWriter(this.jdbcTemplate, this.entityManager);
+		AtomicLong next = new AtomicLong();
+		Counts counts = new Counts();
+		ExecutorService executor = Executors.newFixedThreadPool(properties.parallelism());
+		try {
+			List<Future<?>> workers = new ArrayList<>();
+			for (int i = 0; i < properties.parallelism(); i++) {
+				workers.add(executor.submit(() -> {
+					long from;
+					while ((from = next.getAndAdd(properties.batchSize())) < properties.owners()) {
+						List<Owner> batch = new ArrayList<>(properties.batchSize());
+						for (long index = from; index < Math.min(from + properties.batchSize(),
+								properties.owners()); index++) {
+							batch.add(content.owner(index));
+						}
+						OwnerBatchWriter.Counts written = this.transactionTemplate
+							.execute(status -> writer.write(batch));
+						counts.pets.addAndGet(written.pets());
+						counts.visits.addAndGet(written.visits());
+					}
+				}));
+			}
+			for (Future<?> worker : workers) {
+				worker.get();
+			}
+		}
+		catch (ExecutionException ex) {
+			throw new IllegalStateException("Failed to write generated owners", ex.getCause());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		return counts;
+	}
+
+	private void evictCaches() {
+		this.entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache().evictAllRegions();
+		CacheManager caches = this.cacheManager.getIfAvailable();
+		if (caches != null) {
+			for (String name : caches.getCacheNames()) {
+				caches.getCache(name).clear();
+			}
+		}
+		this.lastNameIndex.ifAvailable(OwnerLastNameIndex::rebuild);
+	}
+
+	private static class Counts {
+
+		private final AtomicLong pets = new AtomicLong();
+
+		private final AtomicLong visits = new AtomicLong();
+
+	}
+
+	/**
+	 * Outcome of a {@link DatasetGenerator} run.
+	 *
+	 * @param owners the number of owners written
+	 * @param pets the number of pets written
+	 * @param visits the number of visits written
+	 * @param vets the number of vets written
+	 * @param specialties the number of specialties written
+	 * @param duration the time the generation took
+	 */
+	public record Report(long owners, long pets, long visits, long vets, long specialties, Duration duration) {
+
+		/**
+		 * Return the write throughput.
+		 * @return the number of owners, pets and visits written per second
+		 */
+		public double rowsPerSecond() {
+			long nanos = this.duration.toNanos();
+			return nanos > 0 ? (this.owners + this.pets + this.visits) * 1e9 / nanos : 0;
+		}
+
+	}
+
+}
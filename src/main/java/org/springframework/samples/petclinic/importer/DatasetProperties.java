@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the {@link DatasetGenerator}.
+ *
+ * @param owners the number of owners generated once the application has started, with
+ * their pets and visits, none if {@code 0}
+ * @param vets the number of vets generated
+ * @param specialties the number of specialties generated, and spread over the vets
+ * @param seed the seed the dataset is derived from, the same seed gives the same dataset
+ * @param parallelism the number of batches written at the same time, each on a connection
+ * of its own
+ * @param batchSize the number of owners, with their pets and visits, written per JDBC
+ * batch and transaction
+ */
+@ConfigurationProperties("petclinic.generate")
+public record DatasetProperties(Long owners, Integer vets, Integer specialties, Long seed, Integer parallelism,
+		Integer batchSize) {
+
+	public DatasetProperties {
+		owners = (owners != null) ? owners : 0;
+		vets = (vets != null) ? vets : 100;
+		specialties = (specialties != null) ? specialties : 20;
+		seed = (seed != null) ? seed : 42;
+		parallelism = (parallelism != null) ? parallelism : 4;
+		batchSize = (batchSize != null) ? batchSize : 500;
+	}
+
+}
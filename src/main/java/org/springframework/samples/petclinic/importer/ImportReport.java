@@ -0,0 +1,59 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a {@link BulkImporter} run.
+ *
+ * @param rows the number of rows read, lines for NDJSON and CSV alike
+ * @param owners the number of owners written
+ * @param pets the number of pets written
+ * @param visits the number of visits written
+ * @param rejected the number of owners rejected because one of their rows is invalid
+ * @param errors the row errors, up to the configured maximum
+ * @param duration the time the import took
+ */
+public record ImportReport(long rows, long owners, long pets, long visits, long rejected, List<RowError> errors,
+		Duration duration) {
+
+	/**
+	 * Return the import throughput.
+	 * @return the number of rows read per second
+	 */
+	public double rowsPerSecond() {
+		long nanos = this.duration.toNanos();
+		return nanos > 0 ? this.rows * 1e9 / nanos : 0;
+	}
+
+	/**
+	 * An invalid row.
+	 *
+	 * @param line the line number in the file, starting at 1
+	 * @param message what is wrong with the row
+	 */
+	public record RowError(long line, String message) {
+
+		@Override
+		public String toString() {
+			return "line " + this.line + ": " + this.message;
+		}
+
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.samples.petclinic.importer.ImportReport.RowError;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetType;
+import org.springframework.samples.petclinic.owner.Visit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link OwnerReader} of newline delimited JSON, one owner document per line, e.g.
+ *
+ * <pre class="code">
+ * {"firstName":"George","lastName":"Franklin","address":"110 W. Liberty St.","city":"Madison","telephone":"6085551023",
+ *   "pets":[{"name":"Leo","birthDate":"2010-09-07","type":"cat","visits":[{"date":"2013-01-01","description":"rabies shot"}]}]}
+ * </pre>
+ */
+class NdjsonOwnerReader implements OwnerReader {
+
+	private final BufferedReader reader;
+
+	private final ObjectMapper objectMapper;
+
+	private final Function<String, PetType> petTypes;
+
+	private long lineNumber;
+
+	NdjsonOwnerReader(BufferedReader reader, ObjectMapper objectMapper, Function<String, PetType> petTypes) {
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+		this.petTypes = petTypes;
+	}
+
+	@Override
+	public ParsedOwner read() throws IOException {
+		String line;
+		while ((line = this.reader.readLine()) != null) {
+			this.lineNumber++;
+			if (!line.isBlank()) {
+				return parse(line);
+			}
+		}
+		return null;
+	}
+
+	private ParsedOwner parse(String line) {
+		List<RowError> errors = new ArrayList<>();
+		Owner owner = new Owner();
+		try {
+			OwnerDocument document = this.objectMapper.readValue(line, OwnerDocument.class);
+			owner.setFirstName(document.firstName());
+			owner.setLastName(document.lastName());
+			owner.setAddress(document.address());
+			owner.setCity(document.city());
+			owner.setTelephone(document.telephone());
+			List<PetDocument> pets = (document.pets() != null) ? document.pets() : List.of();
+			for (int i = 0; i < pets.size(); i++) {
+				owner.addPet(pet(pets.get(i), "pets[" + i + "]", errors));
+			}
+		}
+		catch (JsonProcessingException ex) {
+			errors.add(new RowError(this.lineNumber, "invalid JSON: " + ex.getOriginalMessage()));
+		}
+		return new ParsedOwner(this.lineNumber, 1, owner, errors);
+	}
+
+	private Pet pet(PetDocument document, String path, List<RowError> errors) {
+		Pet pet = new Pet();
+		pet.setName(document.name());
+		pet.setBirthDate(document.birthDate());
+		if (document.type() != null) {
+			pet.setType(this.petTypes.apply(document.type()));
+			if (pet.getType() == null) {
+				errors.add(new RowError(this.lineNumber, path + ".type: unknown pet type " + document.type()));
+			}
+		}
+		if (document.visits() != null) {
+			for (VisitDocument visitDocument : document.visits()) {
+				Visit visit = new Visit();
+				if (visitDocument.date() != null) {
+					visit.setDate(visitDocument.date());
+				}
+				visit.setDescription(visitDocument.description());
+				pet.addVisit(visit);
+			}
+		}
+		return pet;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+
+	record OwnerDocument(String firstName, String lastName, String address, String city, String telephone,
+			List<PetDocument> pets) {
+
+	}
+
+	record PetDocument(String name, LocalDate birthDate, String type, List<VisitDocument> visits) {
+
+	}
+
+	record VisitDocument(LocalDate date, String description) {
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.model.EntityIds;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.Visit;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Writes owners with their pets and visits using one JDBC batch per table. The ids are
+ * taken from the same pooled sequence generator that Hibernate uses for the entities, so
+ * that imported rows never collide with rows persisted by the application, and are set on
+ * the entities before the rows are written.
+ */
+class OwnerBatchWriter {
+
+	private static final String INSERT_OWNER = "INSERT INTO owners (id, first_name, last_name, address, city, telephone) VALUES (?, ?, ?, ?, ?, ?)";
+
+	private static final String INSERT_PET = "INSERT INTO pets (id, name, birth_date, type_id, owner_id) VALUES (?, ?, ?, ?, ?)";
+
+	private static final String INSERT_VISIT = "INSERT INTO visits (id, pet_id, visit_date, description) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final EntityManager entityManager;
+
+	OwnerBatchWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Insert the given owners, which must all be new. Must be called within a
+	 * transaction.
+	 * @param owners the owners to write
+	 * @return the number of pets and visits written
+	 */
+	Counts write(List<Owner> owners) {
+		if (owners.isEmpty()) {
+			return new Counts(0, 0);
+		}
+		List<Pet> pets = new ArrayList<>();
+		List<Integer> petOwners = new ArrayList<>();
+		List<Visit> visits = new ArrayList<>();
+		List<Integer> visitPets = new ArrayList<>();
+		for (Owner owner : owners) {
+			EntityIds.assign(this.entityManager, owner);
+			for (Pet pet : owner.getPets()) {
+				EntityIds.assign(this.entityManager, pet);
+				pets.add(pet);
+				petOwners.add(owner.getId());
+				for (Visit visit : pet.getVisits()) {
+					EntityIds.assign(this.entityManager, visit);
+					visits.add(visit);
+					visitPets.add(pet.getId());
+				}
+			}
+		}
+
+		insert(INSERT_OWNER, owners, (ps, owner, i) -> {
+			ps.setInt(1, owner.getId());
+			ps.setString(2, owner.getFirstName());
+			ps.setString(3, owner.getLastName());
+			ps.setString(4, owner.getAddress());
+			ps.setString(5, owner.getCity());
+			ps.setString(6, owner.getTelephone());
+		});
+		insert(INSERT_PET, pets, (ps, pet, i) -> {
+			ps.setInt(1, pet.getId());
+			ps.setString(2, pet.getName());
+			ps.setDate(3, Date.valueOf(pet.getBirthDate()));
+			ps.setInt(4, pet.getType().getId());
+			ps.setInt(5, petOwners.get(i));
+		});
+		insert(INSERT_VISIT, visits, (ps, visit, i) -> {
+			ps.setInt(1, visit.getId());
+			ps.setInt(2, visitPets.get(i));
+			ps.setDate(3, (visit.getDate() != null) ? Date.valueOf(visit.getDate()) : null);
+			ps.setString(4, visit.getDescription());
+		});
+		return new Counts(pets.size(), visits.size());
+	}
+
+	private <T> void insert(String sql, List<T> rows, RowSetter<T> setter) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		this.jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				setter.setValues(ps, rows.get(i), i);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return rows.size();
+			}
+
+		});
+	}
+
+	record Counts(int pets, int visits) {
+
+	}
+
+	@FunctionalInterface
+	private interface RowSetter<T> {
+
+		void setValues(PreparedStatement ps, T row, int index) throws SQLException;
+
+	}
+
+}
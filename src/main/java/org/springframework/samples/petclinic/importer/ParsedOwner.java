@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import java.util.List;
+
+import org.springframework.samples.petclinic.owner.Owner;
+
+/**
+ * An owner aggregate read by an {@link OwnerReader}, along with the errors found while
+ * parsing it. The owner is only written if there are none.
+ *
+ * @param line the line the owner starts at
+ * @param rows the number of rows the owner, its pets and visits span
+ * @param owner the owner, possibly incomplete if there are errors
+ * @param errors the parsing errors
+ */
+record ParsedOwner(long line, int rows, Owner owner, List<ImportReport.RowError> errors) {
+
+}
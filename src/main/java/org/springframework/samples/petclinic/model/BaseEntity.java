@@ -21,10 +21,19 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.SequenceGenerator;
 
 /**
  * Simple JavaBean domain object with an id property. Used as a base class for objects
  * needing this property.
+ * <p>
+ * Ids are drawn from the {@code petclinic_seq} sequence, which all tables share. The
+ * sequence is incremented by {@link #ID_ALLOCATION_SIZE}, so that Hibernate's pooled
+ * optimizer hands out that many ids per database round trip and can batch inserts, which
+ * it cannot do for identity columns. Databases without sequences use a
+ * {@code petclinic_seq} table instead. The seed data uses ids below
+ * {@link #ID_INITIAL_VALUE}.
+ * </p>
  *
  * @author Ken Krebs
  * @author Juergen Hoeller
@@ -32,8 +41,20 @@ import jakarta.persistence.MappedSuperclass;
 @MappedSuperclass
 public class BaseEntity implements Serializable {
 
+	/**
+	 * The number of ids allocated per call to the sequence, must match its increment.
+	 */
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	/**
+	 * The first value of the sequence.
+	 */
+	public static final int ID_INITIAL_VALUE = 100;
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "petclinic_seq")
+	@SequenceGenerator(name = "petclinic_seq", sequenceName = "petclinic_seq", initialValue = ID_INITIAL_VALUE,
+			allocationSize = ID_ALLOCATION_SIZE)
 	private Integer id;
 
 	public Integer getId() {
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Hands out ids from the generator Hibernate uses for an entity, for rows that are
+ * written with plain JDBC rather than through JPA. Ids obtained here never collide with
+ * the ids of entities persisted by the application.
+ */
+public final class EntityIds {
+
+	private EntityIds() {
+	}
+
+	/**
+	 * Set the next id of the entity's generator on the given new entity. Must be called
+	 * within a transaction of the given {@link EntityManager}.
+	 * @param entityManager the entity manager of the current transaction
+	 * @param entity the entity to set the id on
+	 */
+	public static void assign(EntityManager entityManager, BaseEntity entity) {
+		SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+		BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+			.getMappingMetamodel()
+			.getEntityDescriptor(entity.getClass())
+			.getGenerator();
+		Object id = generator.generate(session, entity, null, EventType.INSERT);
+		entity.setId(((Number) id).intValue());
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * Position of a keyset (seek) page over {@link Person}s ordered by last name and id. The
+ * cursor is exchanged with clients as an opaque URL-safe token so that the next page can
+ * be requested with a {@code WHERE (last_name, id) > (?, ?)} predicate instead of an
+ * {@code OFFSET}.
+ *
+ * @param lastName the last name of the last row of the previous page
+ * @param id the id of the last row of the previous page
+ */
+public record KeysetCursor(String lastName, int id) {
+
+	/**
+	 * Cursor positioned before the first row.
+	 */
+	public static final KeysetCursor FIRST = new KeysetCursor("", 0);
+
+	private static final char SEPARATOR = ':';
+
+	/**
+	 * Create the cursor positioned after the given person.
+	 * @param person the last person of the current page
+	 * @return the cursor pointing to the following page
+	 */
+	public static KeysetCursor after(Person person) {
+		return new KeysetCursor(person.getLastName(), person.getId());
+	}
+
+	/**
+	 * Decode a token previously produced by {@link #encode()}. An empty or {@code null}
+	 * token designates the first page.
+	 * @param token the opaque token
+	 * @return the decoded cursor
+	 * @throws IllegalArgumentException if the token is malformed
+	 */
+	public static KeysetCursor decode(String token) {
+		if (!StringUtils.hasText(token)) {
+			return FIRST;
+		}
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = value.indexOf(SEPARATOR);
+			return new KeysetCursor(value.substring(separator + 1), Integer.parseInt(value.substring(0, separator)));
+		}
+		catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+			throw new IllegalArgumentException("Invalid page cursor: " + token, ex);
+		}
+	}
+
+	/**
+	 * Encode this cursor as an opaque URL-safe token.
+	 * @return the token
+	 */
+	public String encode() {
+		String value = this.id + String.valueOf(SEPARATOR) + this.lastName;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
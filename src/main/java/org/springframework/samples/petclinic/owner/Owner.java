@@ -15,21 +15,28 @@
  */
 package org.springframework.samples.petclinic.owner;
 
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.core.style.ToStringCreator;
 import org.springframework.samples.petclinic.model.Person;
 import org.springframework.util.Assert;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.NotBlank;
 
@@ -45,6 +52,8 @@ import jakarta.validation.constraints.NotBlank;
  */
 @Entity
 @Table(name = "owners")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "owner")
 public class Owner extends Person {
 
 	@Column(name = "address")
@@ -60,10 +69,16 @@ public class Owner extends Person {
 	@Pattern(regexp = "\\d{10}", message = "{telephone.invalid}")
 	private String telephone;
 
-	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
-	@JoinColumn(name = "owner_id")
+	// a set rather than a list, so that fetching the pets together with their visits
+	// does not repeat a pet for each of its visits
+	@OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	@OrderBy("name")
-	private final List<Pet> pets = new ArrayList<>();
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "owner-pets")
+	private final Set<Pet> pets = new LinkedHashSet<>();
+
+	// lookup of the pets by id and name, built on first use and dropped by addPet
+	@Transient
+	private transient PetIndex petIndex;
 
 	public String getAddress() {
 		return this.address;
@@ -90,12 +105,14 @@ public class Owner extends Person {
 	}
 
 	public List<Pet> getPets() {
-		return this.pets;
+		return List.copyOf(this.pets);
 	}
 
 	public void addPet(Pet pet) {
 		if (pet.isNew()) {
-			getPets().add(pet);
+			pet.setOwner(this);
+			this.pets.add(pet);
+			invalidatePetIndex();
 		}
 	}
 
@@ -114,15 +131,17 @@ public class Owner extends Person {
 	 * @return the Pet with the given id, or null if no such Pet exists for this Owner
 	 */
 	public Pet getPet(Integer id) {
-		for (Pet pet : getPets()) {
-			if (!pet.isNew()) {
-				Integer compId = pet.getId();
-				if (compId.equals(id)) {
-					return pet;
-				}
-			}
+		if (id == null) {
+			return null;
 		}
-		return null;
+		PetIndex index = petIndex();
+		Pet pet = index.byId.get(id);
+		if (pet == null && index.unsaved) {
+			// pets saved since the index was built now have an id
+			invalidatePetIndex();
+			pet = petIndex().byId.get(id);
+		}
+		return pet;
 	}
 
 	/**
@@ -132,15 +151,36 @@ public class Owner extends Person {
 	 * @return the Pet with the given name, or null if no such Pet exists for this Owner
 	 */
 	public Pet getPet(String name, boolean ignoreNew) {
-		for (Pet pet : getPets()) {
-			String compName = pet.getName();
-			if (compName != null && compName.equalsIgnoreCase(name)) {
-				if (!ignoreNew || !pet.isNew()) {
-					return pet;
-				}
-			}
+		if (name == null) {
+			return null;
+		}
+		PetIndex index = petIndex();
+		Pet pet = index.findByName(name, ignoreNew);
+		boolean stale = (pet != null) ? !name.equalsIgnoreCase(pet.getName()) || (ignoreNew && pet.isNew())
+				: index.unsaved;
+		if (stale) {
+			// a pet was renamed or saved since the index was built
+			invalidatePetIndex();
+			pet = petIndex().findByName(name, ignoreNew);
 		}
-		return null;
+		return pet;
+	}
+
+	/**
+	 * Drop the pet lookup, it is rebuilt from {@link #getPets()} on next use. Called by
+	 * {@link #addPet(Pet)}, and to be called when a pet of this owner is renamed.
+	 */
+	void invalidatePetIndex() {
+		this.petIndex = null;
+	}
+
+	private PetIndex petIndex() {
+		PetIndex index = this.petIndex;
+		if (index == null) {
+			index = new PetIndex(getPets());
+			this.petIndex = index;
+		}
+		return index;
 	}
 
 	@Override
@@ -172,4 +212,47 @@ public class Owner extends Person {
 		pet.addVisit(visit);
 	}
 
+	/**
+	 * Pets by id and by lower-cased name, keeping the first pet in list order for a name,
+	 * as a linear scan would.
+	 */
+	private static final class PetIndex {
+
+		private final Map<Integer, Pet> byId = new HashMap<>();
+
+		private final Map<String, Pet> byName = new HashMap<>();
+
+		private final Map<String, Pet> savedByName = new HashMap<>();
+
+		private final boolean unsaved;
+
+		PetIndex(List<Pet> pets) {
+			boolean unsaved = false;
+			for (Pet pet : pets) {
+				String name = pet.getName() != null ? key(pet.getName()) : null;
+				if (name != null) {
+					this.byName.putIfAbsent(name, pet);
+				}
+				if (pet.isNew()) {
+					unsaved = true;
+					continue;
+				}
+				this.byId.putIfAbsent(pet.getId(), pet);
+				if (name != null) {
+					this.savedByName.putIfAbsent(name, pet);
+				}
+			}
+			this.unsaved = unsaved;
+		}
+
+		Pet findByName(String name, boolean ignoreNew) {
+			return (ignoreNew ? this.savedByName : this.byName).get(key(name));
+		}
+
+		private static String key(String name) {
+			return name.toLowerCase(Locale.ROOT);
+		}
+
+	}
+
 }
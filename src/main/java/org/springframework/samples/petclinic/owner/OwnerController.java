@@ -15,12 +15,22 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.samples.petclinic.model.KeysetCursor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -31,6 +41,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.ModelAndView;
 
 import jakarta.validation.Valid;
@@ -48,10 +59,19 @@ class OwnerController {
 
 	private static final String VIEWS_OWNER_CREATE_OR_UPDATE_FORM = "owners/createOrUpdateOwnerForm";
 
+	private static final int RECENT_VISITS = 5;
+
 	private final OwnerRepository owners;
 
-	public OwnerController(OwnerRepository owners) {
+	private final VisitRepository visits;
+
+	private final OwnerLastNameIndex lastNameIndex;
+
+	public OwnerController(OwnerRepository owners, VisitRepository visits,
+			ObjectProvider<OwnerLastNameIndex> lastNameIndex) {
 		this.owners = owners;
+		this.visits = visits;
+		this.lastNameIndex = lastNameIndex.getIfAvailable();
 	}
 
 	@InitBinder
@@ -62,7 +82,7 @@ class OwnerController {
 	@ModelAttribute("owner")
 	public Owner findOwner(@PathVariable(name = "ownerId", required = false) Integer ownerId) {
 		return ownerId == null ? new Owner()
-				: this.owners.findById(ownerId)
+				: this.owners.findWithPetsById(ownerId)
 					.orElseThrow(() -> new IllegalArgumentException("Owner not found with id: " + ownerId
 							+ ". Please ensure the ID is correct " + "and the owner exists in the database."));
 	}
@@ -80,6 +100,7 @@ class OwnerController {
 		}
 
 		this.owners.save(owner);
+		indexLastName(owner);
 		redirectAttributes.addFlashAttribute("message", "New Owner Created");
 		return "redirect:/owners/" + owner.getId();
 	}
@@ -90,15 +111,23 @@ class OwnerController {
 	}
 
 	@GetMapping("/owners")
-	public String processFindForm(@RequestParam(defaultValue = "1") int page, Owner owner, BindingResult result,
-			Model model) {
+	public String processFindForm(@RequestParam(defaultValue = "1") int page,
+			@RequestParam(required = false) String cursor, Owner owner, BindingResult result, Model model) {
+		// pages are numbered from 1, a lower number shows the first page
+		page = Math.max(page, 1);
+
 		// allow parameterless GET request for /owners to return all records
 		if (owner.getLastName() == null) {
 			owner.setLastName(""); // empty string signifies broadest possible search
 		}
 
+		// a cursor parameter, even an empty one, switches to keyset pagination
+		if (cursor != null) {
+			return processKeysetFindForm(cursor, owner, result, model);
+		}
+
 		// find owners by last name
-		Page<Owner> ownersResults = findPaginatedForOwnersLastName(page, owner.getLastName());
+		Page<OwnerSummary> ownersResults = findPaginatedForOwnersLastName(page, owner.getLastName());
 		if (ownersResults.isEmpty()) {
 			// no owners found
 			result.rejectValue("lastName", "notFound", "not found");
@@ -107,16 +136,15 @@ class OwnerController {
 
 		if (ownersResults.getTotalElements() == 1) {
 			// 1 owner found
-			owner = ownersResults.iterator().next();
-			return "redirect:/owners/" + owner.getId();
+			return "redirect:/owners/" + ownersResults.iterator().next().id();
 		}
 
 		// multiple owners found
 		return addPaginationModel(page, model, ownersResults);
 	}
 
-	private String addPaginationModel(int page, Model model, Page<Owner> paginated) {
-		List<Owner> listOwners = paginated.getContent();
+	private String addPaginationModel(int page, Model model, Page<OwnerSummary> paginated) {
+		List<OwnerSummary> listOwners = paginated.getContent();
 		model.addAttribute("currentPage", page);
 		model.addAttribute("totalPages", paginated.getTotalPages());
 		model.addAttribute("totalItems", paginated.getTotalElements());
@@ -124,10 +152,78 @@ class OwnerController {
 		return "owners/ownersList";
 	}
 
-	private Page<Owner> findPaginatedForOwnersLastName(int page, String lastname) {
+	private String processKeysetFindForm(String cursor, Owner owner, BindingResult result, Model model) {
+		Slice<OwnerSummary> ownersResults = findKeysetForOwnersLastName(cursor, owner.getLastName());
+		boolean firstPage = cursor.isEmpty();
+		if (ownersResults.isEmpty() && firstPage) {
+			// no owners found
+			result.rejectValue("lastName", "notFound", "not found");
+			return "owners/findOwners";
+		}
+
+		if (firstPage && ownersResults.getNumberOfElements() == 1 && !ownersResults.hasNext()) {
+			// 1 owner found
+			return "redirect:/owners/" + ownersResults.getContent().get(0).id();
+		}
+
+		// multiple owners found
+		List<OwnerSummary> listOwners = ownersResults.getContent();
+		String nextCursor = null;
+		if (ownersResults.hasNext()) {
+			OwnerSummary last = listOwners.get(listOwners.size() - 1);
+			nextCursor = new KeysetCursor(last.lastName(), last.id()).encode();
+		}
+		model.addAttribute("cursor", cursor);
+		model.addAttribute("nextCursor", nextCursor);
+		model.addAttribute("listOwners", listOwners);
+		return "owners/ownersList";
+	}
+
+	private Slice<OwnerSummary> findKeysetForOwnersLastName(String cursor, String lastname) {
+		int pageSize = 5;
+		KeysetCursor position = decodeCursor(cursor);
+		return owners.findSummariesByLastNameStartingWithAfter(lastname, position.lastName(), position.id(),
+				PageRequest.ofSize(pageSize));
+	}
+
+	private static KeysetCursor decodeCursor(String cursor) {
+		try {
+			return KeysetCursor.decode(cursor);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	private Page<OwnerSummary> findPaginatedForOwnersLastName(int page, String lastname) {
 		int pageSize = 5;
 		Pageable pageable = PageRequest.of(page - 1, pageSize);
-		return owners.findByLastNameStartingWith(lastname, pageable);
+		if (this.lastNameIndex != null) {
+			return findIndexedForOwnersLastName(lastname, pageable);
+		}
+		return owners.findSummariesByLastNameStartingWith(lastname, pageable);
+	}
+
+	private Page<OwnerSummary> findIndexedForOwnersLastName(String lastname, Pageable pageable) {
+		OwnerLastNameIndex.Match match = this.lastNameIndex.find(lastname, pageable.getPageNumber(),
+				pageable.getPageSize());
+		List<Integer> ids = Arrays.stream(match.ids()).boxed().toList();
+		List<OwnerSummary> content = List.of();
+		if (!ids.isEmpty()) {
+			// the summaries come in any order, put them in the order of the index
+			Map<Integer, OwnerSummary> summariesById = new HashMap<>();
+			for (OwnerSummary summary : owners.findSummariesByIdIn(ids)) {
+				summariesById.put(summary.id(), summary);
+			}
+			content = ids.stream().map(summariesById::get).filter(Objects::nonNull).toList();
+		}
+		return new PageImpl<>(content, pageable, match.total());
+	}
+
+	private void indexLastName(Owner owner) {
+		if (this.lastNameIndex != null) {
+			this.lastNameIndex.put(owner);
+		}
 	}
 
 	@GetMapping("/owners/{ownerId}/edit")
@@ -151,23 +247,69 @@ class OwnerController {
 
 		owner.setId(ownerId);
 		this.owners.save(owner);
+		indexLastName(owner);
 		redirectAttributes.addFlashAttribute("message", "Owner Values Updated");
 		return "redirect:/owners/{ownerId}";
 	}
 
 	/**
-	 * Custom handler for displaying an owner.
-	 * @param ownerId the ID of the owner to display
+	 * Custom handler for displaying an owner, with the most recent visits of each pet.
+	 * @param owner the owner to display, as loaded by {@link #findOwner(Integer)}
 	 * @return a ModelMap with the model attributes for the view
 	 */
 	@GetMapping("/owners/{ownerId}")
-	public ModelAndView showOwner(@PathVariable("ownerId") int ownerId) {
+	public ModelAndView showOwner(@ModelAttribute(name = "owner", binding = false) Owner owner) {
 		ModelAndView mav = new ModelAndView("owners/ownerDetails");
-		Optional<Owner> optionalOwner = this.owners.findById(ownerId);
-		Owner owner = optionalOwner.orElseThrow(() -> new IllegalArgumentException(
-				"Owner not found with id: " + ownerId + ". Please ensure the ID is correct "));
 		mav.addObject(owner);
+		mav.addObject("recentVisits", findRecentVisits(owner));
 		return mav;
 	}
 
+	/**
+	 * Read the most recent visits of all pets of the owner at once. One visit more than
+	 * displayed is read per pet, to tell whether there are older ones.
+	 */
+	private Map<Integer, Slice<Visit>> findRecentVisits(Owner owner) {
+		Map<Integer, List<Visit>> visitsByPet = new HashMap<>();
+		List<Integer> petIds = owner.getPets().stream().map(Pet::getId).toList();
+		if (!petIds.isEmpty()) {
+			for (VisitRepository.PetVisit visit : this.visits.findRecentByPetIdIn(petIds, RECENT_VISITS + 1)) {
+				visitsByPet.computeIfAbsent(visit.getPetId(), petId -> new ArrayList<>()).add(visit.getVisit());
+			}
+		}
+		Map<Integer, Slice<Visit>> recentVisits = new HashMap<>();
+		for (Integer petId : petIds) {
+			List<Visit> visits = visitsByPet.getOrDefault(petId, List.of());
+			boolean hasNext = visits.size() > RECENT_VISITS;
+			recentVisits.put(petId, new SliceImpl<>(hasNext ? visits.subList(0, RECENT_VISITS) : visits,
+					PageRequest.ofSize(RECENT_VISITS), hasNext));
+		}
+		return recentVisits;
+	}
+
+	/**
+	 * Custom handler for displaying the visit history of a pet, newest first.
+	 * @param owner the owner of the pet, as loaded by {@link #findOwner(Integer)}
+	 * @param petId the ID of the pet
+	 * @param page the page of visits to display
+	 * @param model the model
+	 * @return the view name
+	 */
+	@GetMapping("/owners/{ownerId}/pets/{petId}/visits")
+	public String showVisits(@ModelAttribute(name = "owner", binding = false) Owner owner,
+			@PathVariable("petId") int petId, @RequestParam(defaultValue = "1") int page, Model model) {
+		// pages are numbered from 1, a lower number shows the first page
+		page = Math.max(page, 1);
+		Pet pet = owner.getPet(petId);
+		if (pet == null) {
+			throw new IllegalArgumentException("Pet not found with id: " + petId + " for owner " + owner.getId());
+		}
+		int pageSize = 10;
+		Slice<Visit> visits = this.visits.findByPetId(petId, PageRequest.of(page - 1, pageSize));
+		model.addAttribute("pet", pet);
+		model.addAttribute("currentPage", page);
+		model.addAttribute("visits", visits);
+		return "pets/visitList";
+	}
+
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory, case-insensitive index of owner last names, used to answer prefix searches
+ * without a {@code LIKE 'x%'} scan. Entries are kept in two parallel arrays sorted by
+ * lower-cased last name and id, so that the range matching a prefix, and therefore the
+ * total count, is found with two binary searches and a page is a sub-range of ids.
+ * <p>
+ * The index is loaded from the {@link OwnerRepository} once the application context is
+ * initialized and kept current by {@link #put(Owner)} when owners are saved. Readers work
+ * on an immutable snapshot; writers copy the arrays, which is cheap compared with the
+ * frequency of owner creation and updates. The index is never initialized lazily, as it
+ * would then not be loaded.
+ * </p>
+ * <p>
+ * Only enabled when {@code petclinic.owners.last-name-index.enabled} is {@code true}.
+ * Owners written by other means than {@link OwnerController} require a call to
+ * {@link #rebuild()}.
+ * </p>
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "petclinic.owners.last-name-index.enabled", havingValue = "true")
+public class OwnerLastNameIndex implements SmartInitializingSingleton {
+
+	private final OwnerRepository owners;
+
+	private final Object lock = new Object();
+
+	private volatile Snapshot snapshot = new Snapshot(new String[0], new int[0]);
+
+	// last indexed key per owner id, only accessed while holding the lock
+	private final Map<Integer, String> keysById = new HashMap<>();
+
+	// keys put while a rebuild reads the owners, replayed over what it read, only
+	// accessed while holding the lock
+	private Map<Integer, String> putsDuringRebuild;
+
+	private final Object rebuildLock = new Object();
+
+	public OwnerLastNameIndex(OwnerRepository owners) {
+		this.owners = owners;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		rebuild();
+	}
+
+	/**
+	 * Reload the whole index from the data store. Owners {@link #put(Owner) put} while
+	 * the owners are read are kept, whether or not the read saw them.
+	 */
+	public void rebuild() {
+		synchronized (this.rebuildLock) {
+			synchronized (this.lock) {
+				this.putsDuringRebuild = new HashMap<>();
+			}
+			Map<Integer, String> keysById = new HashMap<>();
+			try {
+				for (OwnerRepository.LastName lastName : this.owners.findAllLastNames()) {
+					keysById.put(lastName.getId(), key(lastName.getLastName()));
+				}
+			}
+			catch (RuntimeException ex) {
+				synchronized (this.lock) {
+					this.putsDuringRebuild = null;
+				}
+				throw ex;
+			}
+			synchronized (this.lock) {
+				keysById.putAll(this.putsDuringRebuild);
+				this.putsDuringRebuild = null;
+				replace(keysById);
+			}
+		}
+	}
+
+	private void replace(Map<Integer, String> keysById) {
+		Entry[] entries = new Entry[keysById.size()];
+		int i = 0;
+		for (Map.Entry<Integer, String> keyById : keysById.entrySet()) {
+			entries[i++] = new Entry(keyById.getValue(), keyById.getKey());
+		}
+		Arrays.sort(entries);
+		String[] keys = new String[entries.length];
+		int[] ids = new int[entries.length];
+		for (i = 0; i < entries.length; i++) {
+			keys[i] = entries[i].key();
+			ids[i] = entries[i].id();
+		}
+		this.keysById.clear();
+		this.keysById.putAll(keysById);
+		this.snapshot = new Snapshot(keys, ids);
+	}
+
+	/**
+	 * Add the given saved owner to the index, or move it if its last name changed.
+	 * @param owner the owner, must have an id
+	 */
+	public void put(Owner owner) {
+		int id = owner.getId();
+		String key = key(owner.getLastName());
+		synchronized (this.lock) {
+			if (this.putsDuringRebuild != null) {
+				this.putsDuringRebuild.put(id, key);
+			}
+			String previous = this.keysById.put(id, key);
+			if (key.equals(previous)) {
+				return;
+			}
+			Snapshot current = this.snapshot;
+			String[] keys = current.keys();
+			int[] ids = current.ids();
+			if (previous != null) {
+				int position = current.position(previous, id);
+				keys = remove(keys, position);
+				ids = remove(ids, position);
+			}
+			Snapshot reduced = new Snapshot(keys, ids);
+			int position = -reduced.position(key, id) - 1;
+			this.snapshot = new Snapshot(insert(keys, position, key), insert(ids, position, id));
+		}
+	}
+
+	/**
+	 * Find the owners whose last name starts with the given prefix, ignoring case.
+	 * @param prefix the last name prefix, empty to match every owner
+	 * @param page the zero-based page number
+	 * @param size the page size
+	 * @return the total number of matches and the ids of the requested page, ordered by
+	 * last name and id
+	 */
+	public Match find(String prefix, int page, int size) {
+		Snapshot current = this.snapshot;
+		String key = key(prefix);
+		int from = current.lowerBound(key);
+		int to = current.lowerBound(key + Character.MAX_VALUE);
+		int start = (int) Math.min((long) from + (long) page * size, to);
+		int end = (int) Math.min((long) start + size, to);
+		return new Match(to - from, Arrays.copyOfRange(current.ids(), start, end));
+	}
+
+	/**
+	 * Return the number of indexed owners.
+	 * @return the index size
+	 */
+	public int size() {
+		return this.snapshot.ids().length;
+	}
+
+	private static String key(String lastName) {
+		return lastName == null ? "" : lastName.toLowerCase(Locale.ROOT);
+	}
+
+	private static String[] remove(String[] values, int position) {
+		String[] result = new String[values.length - 1];
+		System.arraycopy(values, 0, result, 0, position);
+		System.arraycopy(values, position + 1, result, position, result.length - position);
+		return result;
+	}
+
+	private static int[] remove(int[] values, int position) {
+		int[] result = new int[values.length - 1];
+		System.arraycopy(values, 0, result, 0, position);
+		System.arraycopy(values, position + 1, result, position, result.length - position);
+		return result;
+	}
+
+	private static String[] insert(String[] values, int position, String value) {
+		String[] result = new String[values.length + 1];
+		System.arraycopy(values, 0, result, 0, position);
+		result[position] = value;
+		System.arraycopy(values, position, result, position + 1, values.length - position);
+		return result;
+	}
+
+	private static int[] insert(int[] values, int position, int value) {
+		int[] result = new int[values.length + 1];
+		System.arraycopy(values, 0, result, 0, position);
+		result[position] = value;
+		System.arraycopy(values, position, result, position + 1, values.length - position);
+		return result;
+	}
+
+	/**
+	 * Result of a prefix search.
+	 *
+	 * @param total the number of owners matching the prefix
+	 * @param ids the owner ids of the requested page
+	 */
+	public record Match(int total, int[] ids) {
+
+	}
+
+	private record Entry(String key, int id) implements Comparable<Entry> {
+
+		@Override
+		public int compareTo(Entry other) {
+			int result = this.key.compareTo(other.key);
+			return result != 0 ? result : Integer.compare(this.id, other.id);
+		}
+
+	}
+
+	private record Snapshot(String[] keys, int[] ids) {
+
+		/**
+		 * Binary search of the exact entry, following the contract of
+		 * {@link Arrays#binarySearch(int[], int)}.
+		 */
+		int position(String key, int id) {
+			int low = 0;
+			int high = this.keys.length - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int result = this.keys[mid].compareTo(key);
+				if (result == 0) {
+					result = Integer.compare(this.ids[mid], id);
+				}
+				if (result < 0) {
+					low = mid + 1;
+				}
+				else if (result > 0) {
+					high = mid - 1;
+				}
+				else {
+					return mid;
+				}
+			}
+			return -(low + 1);
+		}
+
+		/**
+		 * Index of the first key greater than or equal to the given key.
+		 */
+		int lowerBound(String key) {
+			int low = 0;
+			int high = this.keys.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (this.keys[mid].compareTo(key) < 0) {
+					low = mid + 1;
+				}
+				else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+	}
+
+}
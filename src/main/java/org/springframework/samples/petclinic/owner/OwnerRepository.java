@@ -15,14 +15,17 @@
  */
 package org.springframework.samples.petclinic.owner;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import jakarta.annotation.Nonnull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository class for <code>Owner</code> domain objects. All method names are compliant
@@ -45,11 +48,93 @@ public interface OwnerRepository extends JpaRepository<Owner, Integer> {
 	 * @return a Collection of matching {@link Owner}s (or an empty Collection if none
 	 * found)
 	 */
+	@Transactional(readOnly = true)
 	Page<Owner> findByLastNameStartingWith(String lastName, Pageable pageable);
 
+	/**
+	 * Retrieve {@link OwnerSummary} projections from the data store by last name,
+	 * returning all owners whose last name <i>starts</i> with the given name. Pet names
+	 * are aggregated in the same query, so neither {@link Pet}s nor {@link Visit}s are
+	 * loaded.
+	 * @param lastName Value to search for
+	 * @param pageable the page to retrieve
+	 * @return a page of matching {@link OwnerSummary}s (or an empty page if none found)
+	 */
+	@Transactional(readOnly = true)
+	@Query(value = """
+			SELECT new org.springframework.samples.petclinic.owner.OwnerSummary(
+				o.id, o.firstName, o.lastName, o.address, o.city, o.telephone,
+				listagg(p.name, ', ') WITHIN GROUP (ORDER BY p.name))
+			FROM Owner o LEFT JOIN o.pets p
+			WHERE o.lastName LIKE :lastName%
+			GROUP BY o.id, o.firstName, o.lastName, o.address, o.city, o.telephone
+			ORDER BY o.lastName, o.id
+			""", countQuery = "SELECT count(o) FROM Owner o WHERE o.lastName LIKE :lastName%")
+	Page<OwnerSummary> findSummariesByLastNameStartingWith(String lastName, Pageable pageable);
+
+	/**
+	 * Retrieve a keyset (seek) page of {@link OwnerSummary} projections whose last name
+	 * <i>starts</i> with the given name, ordered by last name and id and positioned after
+	 * the given last name and id. Unlike
+	 * {@link #findSummariesByLastNameStartingWith(String, Pageable)} no {@code OFFSET}
+	 * and no count query are issued, so every page costs the same as the first one.
+	 * @param lastName Value to search for
+	 * @param afterLastName last name of the last row of the previous page
+	 * @param afterId id of the last row of the previous page
+	 * @param pageable the page size, the page number is expected to be {@code 0}
+	 * @return a slice of matching {@link OwnerSummary}s
+	 * @see org.springframework.samples.petclinic.model.KeysetCursor
+	 */
+	@Transactional(readOnly = true)
+	@Query("""
+			SELECT new org.springframework.samples.petclinic.owner.OwnerSummary(
+				o.id, o.firstName, o.lastName, o.address, o.city, o.telephone,
+				listagg(p.name, ', ') WITHIN GROUP (ORDER BY p.name))
+			FROM Owner o LEFT JOIN o.pets p
+			WHERE o.lastName LIKE :lastName%
+				AND (o.lastName > :afterLastName OR (o.lastName = :afterLastName AND o.id > :afterId))
+			GROUP BY o.id, o.firstName, o.lastName, o.address, o.city, o.telephone
+			ORDER BY o.lastName, o.id
+			""")
+	Slice<OwnerSummary> findSummariesByLastNameStartingWithAfter(String lastName, String afterLastName, int afterId,
+			Pageable pageable);
+
+	/**
+	 * Retrieve the {@link OwnerSummary} projections of the owners with the given ids, in
+	 * no particular order.
+	 * @param ids the owner ids
+	 * @return the matching {@link OwnerSummary}s
+	 */
+	@Transactional(readOnly = true)
+	@Query("""
+			SELECT new org.springframework.samples.petclinic.owner.OwnerSummary(
+				o.id, o.firstName, o.lastName, o.address, o.city, o.telephone,
+				listagg(p.name, ', ') WITHIN GROUP (ORDER BY p.name))
+			FROM Owner o LEFT JOIN o.pets p
+			WHERE o.id IN :ids
+			GROUP BY o.id, o.firstName, o.lastName, o.address, o.city, o.telephone
+			""")
+	List<OwnerSummary> findSummariesByIdIn(Collection<Integer> ids);
+
+	/**
+	 * Retrieve the id and last name of every {@link Owner}, used to build the
+	 * {@link OwnerLastNameIndex}.
+	 * @return the id and last name of all owners
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT o.id AS id, o.lastName AS lastName FROM Owner o")
+	List<LastName> findAllLastNames();
+
 	/**
 	 * Retrieve an {@link Owner} from the data store by id.
 	 * <p>
+	 * The owner is loaded together with its pets and all their visits, for callers that
+	 * need the whole aggregate. The web layer uses {@link #findWithPetsById} and reads
+	 * visits page by page instead. A query is used rather than an entity graph on
+	 * {@code find}, which the second-level cache would answer without initializing the
+	 * pets.
+	 * </p>
+	 * <p>
 	 * This method returns an {@link Optional} containing the {@link Owner} if found. If
 	 * no {@link Owner} is found with the provided id, it will return an empty
 	 * {@link Optional}.
@@ -60,6 +145,34 @@ public interface OwnerRepository extends JpaRepository<Owner, Integer> {
 	 * @throws IllegalArgumentException if the id is null (assuming null is not a valid
 	 * input for id)
 	 */
+	@Query("""
+			SELECT o FROM Owner o
+			LEFT JOIN FETCH o.pets p LEFT JOIN FETCH p.type LEFT JOIN FETCH p.visits
+			WHERE o.id = :id
+			""")
 	Optional<Owner> findById(@Nonnull Integer id);
 
+	/**
+	 * Retrieve an {@link Owner} from the data store by id, together with its pets and
+	 * their types but without their visits, which are read page by page through the
+	 * {@link VisitRepository}.
+	 * @param id the id to search for
+	 * @return an {@link Optional} containing the {@link Owner} if found, or an empty
+	 * {@link Optional} if not found.
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT o FROM Owner o LEFT JOIN FETCH o.pets p LEFT JOIN FETCH p.type WHERE o.id = :id")
+	Optional<Owner> findWithPetsById(@Nonnull Integer id);
+
+	/**
+	 * Projection of the {@link Owner} id and last name.
+	 */
+	interface LastName {
+
+		Integer getId();
+
+		String getLastName();
+
+	}
+
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+/**
+ * Read-only projection of an {@link Owner} used by the owner search results. Carries just
+ * the columns rendered by the list view, with the pet names already aggregated by the
+ * database so that no {@link Pet} or {@link Visit} entities are loaded.
+ *
+ * @param id the owner identifier
+ * @param firstName the owner first name
+ * @param lastName the owner last name
+ * @param address the owner address
+ * @param city the owner city
+ * @param telephone the owner telephone
+ * @param petNames comma separated pet names, ordered by name, or {@code null} if the
+ * owner has no pets
+ */
+public record OwnerSummary(Integer id, String firstName, String lastName, String address, String city, String telephone,
+		String petNames) {
+
+}
@@ -48,38 +48,50 @@ class PetController {
 
 	private final OwnerRepository owners;
 
-	private final PetTypeRepository types;
+	private final PetRepository pets;
 
-	public PetController(OwnerRepository owners, PetTypeRepository types) {
+	private final PetTypeRegistry types;
+
+	public PetController(OwnerRepository owners, PetRepository pets, PetTypeRegistry types) {
 		this.owners = owners;
+		this.pets = pets;
 		this.types = types;
 	}
 
 	@ModelAttribute("types")
 	public Collection<PetType> populatePetTypes() {
-		return this.types.findPetTypes();
+		return this.types.getPetTypes();
 	}
 
 	@ModelAttribute("owner")
 	public Owner findOwner(@PathVariable("ownerId") int ownerId) {
-		Optional<Owner> optionalOwner = this.owners.findById(ownerId);
+		Optional<Owner> optionalOwner = this.owners.findWithPetsById(ownerId);
 		Owner owner = optionalOwner.orElseThrow(() -> new IllegalArgumentException(
 				"Owner not found with id: " + ownerId + ". Please ensure the ID is correct "));
 		return owner;
 	}
 
+	/**
+	 * Resolve the pet from the owner already loaded by {@link #findOwner(int)}, so that
+	 * the owner aggregate is only fetched once per request. The request is bound to a
+	 * copy of the existing pet, so that the pets of the owner keep their stored names
+	 * while the new name is checked against them.
+	 * @param owner the owner model attribute, not bound to the request
+	 * @param petId the pet id, if the request targets an existing pet
+	 * @return a copy of the existing pet, or a new one
+	 */
 	@ModelAttribute("pet")
-	public Pet findPet(@PathVariable("ownerId") int ownerId,
+	public Pet findPet(@ModelAttribute(name = "owner", binding = false) Owner owner,
 			@PathVariable(name = "petId", required = false) Integer petId) {
-
-		if (petId == null) {
-			return new Pet();
+		Pet existingPet = petId == null ? null : owner.getPet(petId);
+		Pet pet = new Pet();
+		if (existingPet != null) {
+			pet.setId(existingPet.getId());
+			pet.setName(existingPet.getName());
+			pet.setBirthDate(existingPet.getBirthDate());
+			pet.setType(existingPet.getType());
 		}
-
-		Optional<Owner> optionalOwner = this.owners.findById(ownerId);
-		Owner owner = optionalOwner.orElseThrow(() -> new IllegalArgumentException(
-				"Owner not found with id: " + ownerId + ". Please ensure the ID is correct "));
-		return owner.getPet(petId);
+		return pet;
 	}
 
 	@InitBinder("owner")
@@ -116,7 +128,7 @@ class PetController {
 		}
 
 		owner.addPet(pet);
-		this.owners.save(owner);
+		this.pets.save(pet);
 		redirectAttributes.addFlashAttribute("message", "New Pet has been Added");
 		return "redirect:/owners/{ownerId}";
 	}
@@ -155,22 +167,20 @@ class PetController {
 	}
 
 	/**
-	 * Updates the pet details if it exists or adds a new pet to the owner.
+	 * Updates the pet details if it exists or adds a new pet to the owner. Only the pet
+	 * is written, not the owner with all its pets and visits.
 	 * @param owner The owner of the pet
 	 * @param pet The pet with updated details
 	 */
 	private void updatePetDetails(Owner owner, Pet pet) {
 		Pet existingPet = owner.getPet(pet.getId());
 		if (existingPet != null) {
-			// Update existing pet's properties
-			existingPet.setName(pet.getName());
-			existingPet.setBirthDate(pet.getBirthDate());
-			existingPet.setType(pet.getType());
+			this.pets.updateDetails(existingPet.getId(), pet.getName(), pet.getBirthDate(), pet.getType());
 		}
 		else {
 			owner.addPet(pet);
+			this.pets.save(pet);
 		}
-		this.owners.save(owner);
 	}
 
 }
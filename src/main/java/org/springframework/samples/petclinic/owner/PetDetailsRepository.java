@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.LocalDate;
+
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository fragment updating the details of a single {@link Pet}.
+ */
+public interface PetDetailsRepository {
+
+	/**
+	 * Update the details of an existing {@link Pet} with a single statement of the
+	 * changed columns, without loading its visits. A {@link PetDetailsUpdatedEvent} is
+	 * published within the transaction if the pet exists.
+	 * @param id the id of the pet
+	 * @param name the new name
+	 * @param birthDate the new birth date
+	 * @param type the new type
+	 * @return the number of pets updated
+	 */
+	@Transactional
+	int updateDetails(int id, String name, LocalDate birthDate, PetType type);
+
+}
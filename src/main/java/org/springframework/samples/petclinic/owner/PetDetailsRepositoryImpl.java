@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.LocalDate;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Implementation of {@link PetDetailsRepository} that changes the managed {@link Pet} and
+ * leaves the update to dirty checking. Unlike a bulk update, this only replaces the pet's
+ * own entry in the second-level cache rather than evicting the whole pet region and the
+ * pet collections of all owners.
+ */
+class PetDetailsRepositoryImpl implements PetDetailsRepository {
+
+	private final EntityManager entityManager;
+
+	private final ApplicationEventPublisher events;
+
+	PetDetailsRepositoryImpl(EntityManager entityManager, ApplicationEventPublisher events) {
+		this.entityManager = entityManager;
+		this.events = events;
+	}
+
+	@Override
+	@Transactional
+	public int updateDetails(int id, String name, LocalDate birthDate, PetType type) {
+		Pet pet = this.entityManager.find(Pet.class, id);
+		if (pet == null) {
+			return 0;
+		}
+		pet.setName(name);
+		pet.setBirthDate(birthDate);
+		pet.setType(type);
+		this.events.publishEvent(new PetDetailsUpdatedEvent(id, name, birthDate, type));
+		return 1;
+	}
+
+}
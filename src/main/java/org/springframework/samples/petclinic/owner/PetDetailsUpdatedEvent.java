@@ -0,0 +1,31 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.time.LocalDate;
+
+/**
+ * Published, within the updating transaction, when the details of a {@link Pet} were
+ * changed by {@link PetDetailsRepository#updateDetails}.
+ *
+ * @param petId the id of the pet
+ * @param name the new name
+ * @param birthDate the new birth date
+ * @param type the new type
+ */
+public record PetDetailsUpdatedEvent(int petId, String name, LocalDate birthDate, PetType type) {
+
+}
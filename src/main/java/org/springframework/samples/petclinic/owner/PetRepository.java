@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import org.springframework.data.repository.Repository;
+
+/**
+ * Repository class for <code>Pet</code> domain objects, writing a single pet rather than
+ * saving the whole {@link Owner} aggregate.
+ */
+public interface PetRepository extends Repository<Pet, Integer>, PetDetailsRepository {
+
+	/**
+	 * Insert a new {@link Pet}, which must have been added to its {@link Owner}.
+	 * @param pet the pet to insert
+	 * @return the inserted pet
+	 */
+	Pet save(Pet pet);
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached view of the {@link PetType}s, used when rendering and binding pet forms. The
+ * types are loaded from the {@link PetTypeRepository} on first access and kept as an
+ * immutable list sorted by name together with a lookup by name.
+ * <p>
+ * Pet types are reference data that the application never writes. Changes made to the
+ * {@code types} table by other means require a call to {@link #invalidate()}.
+ * </p>
+ */
+@Component
+public class PetTypeRegistry {
+
+	private final PetTypeRepository types;
+
+	private volatile Snapshot snapshot;
+
+	public PetTypeRegistry(PetTypeRepository types) {
+		this.types = types;
+	}
+
+	/**
+	 * Return all {@link PetType}s.
+	 * @return an immutable list of {@link PetType}s, sorted by name
+	 */
+	public List<PetType> getPetTypes() {
+		return snapshot().types();
+	}
+
+	/**
+	 * Return the {@link PetType} with the given name.
+	 * @param name the exact name of the type
+	 * @return the {@link PetType}, or {@code null} if no such type exists
+	 */
+	public PetType findByName(String name) {
+		return snapshot().byName().get(name);
+	}
+
+	/**
+	 * Discard the cached types, they are reloaded on next access.
+	 */
+	public void invalidate() {
+		synchronized (this) {
+			this.snapshot = null;
+		}
+	}
+
+	private Snapshot snapshot() {
+		Snapshot current = this.snapshot;
+		if (current == null) {
+			synchronized (this) {
+				current = this.snapshot;
+				if (current == null) {
+					current = load();
+					this.snapshot = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	private Snapshot load() {
+		List<PetType> types = List.copyOf(this.types.findPetTypes());
+		Map<String, PetType> byName = new HashMap<>();
+		for (PetType type : types) {
+			if (type.getName() != null) {
+				byName.putIfAbsent(type.getName(), type);
+			}
+		}
+		return new Snapshot(types, Map.copyOf(byName));
+	}
+
+	private record Snapshot(List<PetType> types, Map<String, PetType> byName) {
+
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository class for <code>Visit</code> domain objects, reading the visit history of a
+ * pet a page at a time instead of through {@link Pet#getVisits()}, and booking visits
+ * without saving the whole {@link Owner} aggregate.
+ */
+public interface VisitRepository extends Repository<Visit, Integer> {
+
+	/**
+	 * Retrieve a page of the visits of a {@link Pet}, newest first. No count query is
+	 * issued.
+	 * @param petId the id of the pet
+	 * @param pageable the page to retrieve
+	 * @return a {@link Slice} of {@link Visit}s
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT v FROM Visit v WHERE v.pet.id = :petId ORDER BY v.date DESC, v.id DESC")
+	Slice<Visit> findByPetId(int petId, Pageable pageable);
+
+	/**
+	 * Retrieve the most recent visits of each of the given {@link Pet}s in a single
+	 * query, newest first within each pet. Up to {@code limit} visits are returned per
+	 * pet.
+	 * @param petIds the ids of the pets
+	 * @param limit the maximum number of visits per pet
+	 * @return the visits, ordered by pet id and then newest first
+	 */
+	@Transactional(readOnly = true)
+	@Query("""
+			SELECT r.petId AS petId, v AS visit
+			FROM Visit v JOIN (
+				SELECT w.id AS id, w.pet.id AS petId,
+					row_number() OVER (PARTITION BY w.pet.id ORDER BY w.date DESC, w.id DESC) AS position
+				FROM Visit w
+				WHERE w.pet.id IN :petIds) r ON r.id = v.id
+			WHERE r.position <= :limit
+			ORDER BY r.petId, r.position
+			""")
+	List<PetVisit> findRecentByPetIdIn(Collection<Integer> petIds, int limit);
+
+	/**
+	 * Insert a new {@link Visit}, which must have been added to its {@link Pet}.
+	 * @param visit the visit to insert
+	 * @return the inserted visit
+	 */
+	Visit save(Visit visit);
+
+	/**
+	 * Projection of a {@link Visit} together with the id of its {@link Pet}.
+	 */
+	interface PetVisit {
+
+		Integer getPetId();
+
+		Visit getVisit();
+
+	}
+
+}
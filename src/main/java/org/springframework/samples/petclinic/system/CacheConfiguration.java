@@ -16,38 +16,121 @@
 
 package org.springframework.samples.petclinic.system;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import javax.cache.configuration.MutableConfiguration;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
 
 /**
  * Cache configuration intended for caches providing the JCache API. This configuration
- * creates the used cache for the application and enables statistics that become
+ * creates the used caches for the application and enables statistics that become
  * accessible via JMX.
+ * <p>
+ * The same {@link CacheManager} backs the Hibernate second-level and query caches. Their
+ * regions, like any other cache, are bounded through {@link CacheRegionProperties}.
+ * Caches the application uses without settings get {@link #DEFAULT_REGION}.
+ * </p>
+ * <p>
+ * Actuator publishes the hits, misses, puts, removals and evictions of every cache as
+ * {@code cache.*} metrics tagged with the cache name. Cache hits never reach the
+ * repositories, so the {@code spring.data.repository.invocations} timer of a cached
+ * repository method records the time spent loading entries on a miss.
+ * </p>
  */
 @Configuration(proxyBeanMethods = false)
 @EnableCaching
+@EnableConfigurationProperties(CacheRegionProperties.class)
 class CacheConfiguration {
 
+	/**
+	 * Names of the caches used through {@code @Cacheable}.
+	 */
+	private static final List<String> APPLICATION_CACHES = List.of("vets", "vet-pages");
+
+	private static final AtomicInteger cacheManagers = new AtomicInteger();
+
+	private static final CacheRegionProperties.Region DEFAULT_REGION = new CacheRegionProperties.Region(1000L,
+			Duration.ofMinutes(10));
+
+	/**
+	 * Create a JCache {@link CacheManager} of this application context rather than take
+	 * the default one of the provider, which all contexts of the JVM, e.g. of tests,
+	 * would share, seeing each other's cached entities and losing their caches when one
+	 * of them closes.
+	 */
+	@Bean
+	public CacheManager jCacheCacheManager(ObjectProvider<JCacheManagerCustomizer> customizers) {
+		CachingProvider provider = Caching.getCachingProvider();
+		CacheManager cacheManager = provider.getCacheManager(
+				URI.create(provider.getDefaultURI() + "-" + cacheManagers.incrementAndGet()),
+				provider.getDefaultClassLoader());
+		customizers.orderedStream().forEach(customizer -> customizer.customize(cacheManager));
+		return cacheManager;
+	}
+
+	@Bean
+	public JCacheManagerCustomizer petclinicCacheConfigurationCustomizer(CacheRegionProperties properties) {
+		return cm -> {
+			Map<String, CacheRegionProperties.Region> regions = new LinkedHashMap<>();
+			APPLICATION_CACHES.forEach(name -> regions.put(name, DEFAULT_REGION));
+			regions.putAll(properties.regions());
+			regions.forEach((name, region) -> cm.createCache(name, cacheConfiguration(region)));
+		};
+	}
+
+	/**
+	 * Key cached page queries by page number, size and sort.
+	 */
+	@Bean
+	public KeyGenerator pageableKeyGenerator() {
+		return new PageableKeyGenerator();
+	}
+
+	/**
+	 * Hand the application {@link CacheManager} to Hibernate, so that entity, collection
+	 * and query regions are created in it rather than in a default one.
+	 */
 	@Bean
-	public JCacheManagerCustomizer petclinicCacheConfigurationCustomizer() {
-		return cm -> cm.createCache("vets", cacheConfiguration());
+	public HibernatePropertiesCustomizer petclinicHibernateCacheCustomizer(CacheManager cacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
 	}
 
 	/**
-	 * Create a simple configuration that enable statistics via the JCache programmatic
-	 * configuration API.
-	 * <p>
-	 * Within the configuration object that is provided by the JCache API standard, there
-	 * is only a very limited set of configuration options. The really relevant
-	 * configuration options (like the size limit) must be set via a configuration
-	 * mechanism that is provided by the selected JCache implementation.
+	 * Create a Caffeine specific configuration applying the size limit and expiry of the
+	 * given region, which the configuration object of the JCache API standard does not
+	 * provide. Entries are stored by reference rather than as serialized copies.
 	 */
-	private javax.cache.configuration.Configuration<Object, Object> cacheConfiguration() {
-		return new MutableConfiguration<>().setStatisticsEnabled(true);
+	private javax.cache.configuration.Configuration<Object, Object> cacheConfiguration(
+			CacheRegionProperties.Region region) {
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setStatisticsEnabled(true);
+		configuration.setStoreByValue(false);
+		if (region.maximumSize() != null) {
+			configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+		}
+		if (region.timeToLive() != null) {
+			configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+		}
+		return configuration;
 	}
 
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.system;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Size and expiry settings of the caches created by {@link CacheConfiguration}, keyed by
+ * cache (or Hibernate region) name, e.g.
+ * {@code petclinic.cache.regions.owner.maximum-size=10000}.
+ *
+ * @param regions the settings per cache name
+ */
+@ConfigurationProperties("petclinic.cache")
+record CacheRegionProperties(Map<String, Region> regions) {
+
+	CacheRegionProperties {
+		regions = (regions != null) ? regions : Map.of();
+	}
+
+	/**
+	 * Settings of a single cache.
+	 *
+	 * @param maximumSize the maximum number of entries, unbounded if not set
+	 * @param timeToLive the time after which an entry expires once written, never if not
+	 * set
+	 */
+	record Region(Long maximumSize, Duration timeToLive) {
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import javax.cache.CacheManager;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.samples.petclinic.appointment.AppointmentBook;
+import org.springframework.samples.petclinic.owner.OwnerLastNameIndex;
+import org.springframework.samples.petclinic.owner.PetTypeRegistry;
+
+/**
+ * Drops the data the application keeps in memory before a checkpoint is taken, and
+ * reloads what must be complete once restored, as the database changes in the meantime.
+ * Caches, pet types and vet schedules fill up again on use, while the owner last-name
+ * index is rebuilt on restore.
+ * <p>
+ * Stopped after the web server and started before it, so that no request sees state from
+ * before the checkpoint. Nothing is dropped when the application context closes.
+ * </p>
+ */
+class CachedStateLifecycle implements SmartLifecycle {
+
+	private final ConfigurableApplicationContext context;
+
+	private final ObjectProvider<CacheManager> cacheManager;
+
+	private final ObjectProvider<PetTypeRegistry> petTypes;
+
+	private final ObjectProvider<AppointmentBook> appointmentBook;
+
+	private final ObjectProvider<OwnerLastNameIndex> lastNameIndex;
+
+	private volatile boolean running;
+
+	private volatile boolean dropped;
+
+	CachedStateLifecycle(ConfigurableApplicationContext context, ObjectProvider<CacheManager> cacheManager,
+			ObjectProvider<PetTypeRegistry> petTypes, ObjectProvider<AppointmentBook> appointmentBook,
+			ObjectProvider<OwnerLastNameIndex> lastNameIndex) {
+		this.context = context;
+		this.cacheManager = cacheManager;
+		this.petTypes = petTypes;
+		this.appointmentBook = appointmentBook;
+		this.lastNameIndex = lastNameIndex;
+	}
+
+	@Override
+	public void start() {
+		if (this.dropped) {
+			this.lastNameIndex.ifAvailable(OwnerLastNameIndex::rebuild);
+			this.dropped = false;
+		}
+		this.running = true;
+	}
+
+	@Override
+	public void stop() {
+		this.running = false;
+		if (this.context.isClosed()) {
+			return;
+		}
+		// the JCache manager also holds the Hibernate second-level and query caches
+		this.cacheManager.ifAvailable(caches -> caches.getCacheNames().forEach(name -> caches.getCache(name).clear()));
+		this.petTypes.ifAvailable(PetTypeRegistry::invalidate);
+		this.appointmentBook.ifAvailable(AppointmentBook::invalidate);
+		this.dropped = true;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+	}
+
+}
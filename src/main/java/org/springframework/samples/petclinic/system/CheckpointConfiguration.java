@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import javax.cache.CacheManager;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnCheckpointRestore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.samples.petclinic.appointment.AppointmentBook;
+import org.springframework.samples.petclinic.owner.OwnerLastNameIndex;
+import org.springframework.samples.petclinic.owner.PetTypeRegistry;
+
+/**
+ * Configuration of Coordinated Restore at Checkpoint (CRaC). Spring stops the lifecycle
+ * beans, among them the web server and the connection pools, before a checkpoint and
+ * starts them again once restored. The {@link CachedStateLifecycle} adds the data the
+ * application keeps in memory.
+ * <p>
+ * With {@code petclinic.checkpoint.enabled}, the application warms itself up once started
+ * and then takes a checkpoint, on a JVM with CRaC support, e.g.
+ * {@code java -XX:CRaCCheckpointTo=target/crac -Dpetclinic.checkpoint.enabled=true -jar
+ * app.jar}. {@code java -XX:CRaCRestoreFrom=target/crac} restores it, with a JIT that has
+ * already compiled the request handling.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnCheckpointRestore
+class CheckpointConfiguration {
+
+	private static final Log logger = LogFactory.getLog(CheckpointConfiguration.class);
+
+	@Bean
+	CachedStateLifecycle cachedStateLifecycle(ConfigurableApplicationContext context,
+			ObjectProvider<CacheManager> cacheManager, ObjectProvider<PetTypeRegistry> petTypes,
+			ObjectProvider<AppointmentBook> appointmentBook, ObjectProvider<OwnerLastNameIndex> lastNameIndex) {
+		return new CachedStateLifecycle(context, cacheManager, petTypes, appointmentBook, lastNameIndex);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "petclinic.checkpoint.enabled", havingValue = "true")
+	ApplicationRunner checkpointRunner(WarmUp warmUp) {
+		return args -> {
+			WarmUp.Result result = warmUp.run();
+			logger.info(String.format("Warmed up with %d requests, %d failed, in %d ms, taking checkpoint",
+					result.requests(), result.errors(), result.duration().toMillis()));
+			try {
+				Core.checkpointRestore();
+			}
+			catch (CheckpointException | RestoreException ex) {
+				throw new IllegalStateException("Failed to checkpoint and restore the application", ex);
+			}
+			logger.info("Restored from checkpoint");
+		};
+	}
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.lang.reflect.Method;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKeyGenerator;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link KeyGenerator} for cached queries taking a {@link Pageable}. The page request is
+ * replaced by a string of its page number, size and sort, so that requests for the same
+ * page share a key whatever {@link Pageable} implementation they come as.
+ */
+class PageableKeyGenerator implements KeyGenerator {
+
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		Object[] keys = new Object[params.length];
+		for (int i = 0; i < params.length; i++) {
+			keys[i] = (params[i] instanceof Pageable pageable) ? key(pageable) : params[i];
+		}
+		return SimpleKeyGenerator.generateKey(keys);
+	}
+
+	private static String key(Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return "unpaged;sort=" + pageable.getSort();
+		}
+		return "page=" + pageable.getPageNumber() + ";size=" + pageable.getPageSize() + ";sort=" + pageable.getSort();
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter that keeps the reads of a client on the primary for a while after it wrote, so
+ * that it sees its own writes even if the replica lags behind, e.g. on the page it is
+ * redirected to after adding an owner.
+ * <p>
+ * Any request other than {@code GET}, {@code HEAD} and {@code OPTIONS} counts as a write
+ * and sets a cookie that lives for the configured window. Requests that carry the cookie
+ * are pinned to the primary, which {@link PrimaryPinningDataSource} then uses for
+ * read-only transactions as well.
+ * </p>
+ */
+class PrimaryAfterWriteFilter extends OncePerRequestFilter {
+
+	static final String COOKIE_NAME = "PETCLINIC_PRIMARY";
+
+	private static final ThreadLocal<Boolean> pinnedToPrimary = new ThreadLocal<>();
+
+	private final Duration window;
+
+	PrimaryAfterWriteFilter(Duration window) {
+		this.window = window;
+	}
+
+	/**
+	 * Return whether the current request reads from the primary.
+	 * @return {@code true} if the client wrote within the window
+	 */
+	static boolean isPinnedToPrimary() {
+		return pinnedToPrimary.get() != null;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		boolean write = !isSafe(request.getMethod());
+		if (write) {
+			Cookie cookie = new Cookie(COOKIE_NAME, "1");
+			cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+			cookie.setMaxAge((int) Math.max(1, this.window.toSeconds()));
+			cookie.setHttpOnly(true);
+			response.addCookie(cookie);
+		}
+		if (!write && WebUtils.getCookie(request, COOKIE_NAME) == null) {
+			chain.doFilter(request, response);
+			return;
+		}
+		pinnedToPrimary.set(Boolean.TRUE);
+		try {
+			chain.doFilter(request, response);
+		}
+		finally {
+			pinnedToPrimary.remove();
+		}
+	}
+
+	private static boolean isSafe(String method) {
+		return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method);
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} for read-only transactions that hands out connections of the primary
+ * while the current request is pinned to it by {@link PrimaryAfterWriteFilter}, and of
+ * the replica otherwise.
+ */
+class PrimaryPinningDataSource extends DelegatingDataSource {
+
+	private final DataSource primary;
+
+	PrimaryPinningDataSource(DataSource replica, DataSource primary) {
+		super(replica);
+		this.primary = primary;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return PrimaryAfterWriteFilter.isPinnedToPrimary() ? this.primary.getConnection()
+				: obtainTargetDataSource().getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return PrimaryAfterWriteFilter.isPinnedToPrimary() ? this.primary.getConnection(username, password)
+				: obtainTargetDataSource().getConnection(username, password);
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnCheckpointRestore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuration applied when a read replica is set with
+ * {@code petclinic.datasource.replica.url}. Read-only transactions, which include all
+ * repository queries not running in a read-write transaction, then take their connection
+ * from a pool of the replica, and all other transactions from a pool of the primary.
+ * <p>
+ * The application {@link DataSource} is a {@link LazyConnectionDataSourceProxy} that
+ * obtains the connection once the transaction marked it read-only or not. Reads may see
+ * data the replica has not caught up with yet, so a client that wrote reads from the
+ * primary for {@link ReplicaProperties#primaryAfterWrite()}, see
+ * {@link PrimaryAfterWriteFilter}. While the replica cannot be reached, read-only
+ * transactions fall back to the primary unless
+ * {@link ReplicaProperties#fallbackToPrimary()} is turned off.
+ * </p>
+ * <p>
+ * As the pools replace the one of Spring Boot, so do the lifecycles releasing their
+ * connections before a CRaC checkpoint.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("petclinic.datasource.replica.url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+class ReadReplicaConfiguration {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("petclinic.datasource.replica.hikari")
+	HikariDataSource replicaDataSource(ReplicaProperties replica, DataSourceProperties primary) {
+		HikariDataSource dataSource = DataSourceBuilder.create(primary.getClassLoader())
+			.type(HikariDataSource.class)
+			.url(replica.url())
+			.username((replica.username() != null) ? replica.username() : primary.determineUsername())
+			.password((replica.password() != null) ? replica.password() : primary.determinePassword())
+			.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, ReplicaProperties properties) {
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+		DataSource readOnly = properties.fallbackToPrimary()
+				? new ReplicaFallbackDataSource(replica, primary, properties.retryInterval()) : replica;
+		dataSource.setReadOnlyDataSource(new PrimaryPinningDataSource(readOnly, primary));
+		return dataSource;
+	}
+
+	@Bean
+	PrimaryAfterWriteFilter primaryAfterWriteFilter(ReplicaProperties properties) {
+		return new PrimaryAfterWriteFilter(properties.primaryAfterWrite());
+	}
+
+	@Bean
+	@ConditionalOnCheckpointRestore
+	HikariCheckpointRestoreLifecycle primaryDataSourceCheckpointRestoreLifecycle(
+			@Qualifier("primaryDataSource") DataSource primary, ConfigurableApplicationContext context) {
+		return new HikariCheckpointRestoreLifecycle(primary, context);
+	}
+
+	@Bean
+	@ConditionalOnCheckpointRestore
+	HikariCheckpointRestoreLifecycle replicaDataSourceCheckpointRestoreLifecycle(
+			@Qualifier("replicaDataSource") DataSource replica, ConfigurableApplicationContext context) {
+		return new HikariCheckpointRestoreLifecycle(replica, context);
+	}
+
+}
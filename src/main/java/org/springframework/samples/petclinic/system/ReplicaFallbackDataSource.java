@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} of a read replica that hands out connections of the primary while
+ * the replica cannot be reached. Once obtaining a replica connection failed, the primary
+ * is used for the retry interval, so that callers do not each wait for the replica to
+ * time out.
+ */
+class ReplicaFallbackDataSource extends DelegatingDataSource {
+
+	private static final Log logger = LogFactory.getLog(ReplicaFallbackDataSource.class);
+
+	private final DataSource primary;
+
+	private final long retryIntervalNanos;
+
+	private volatile long retryAt;
+
+	private volatile boolean unavailable;
+
+	ReplicaFallbackDataSource(DataSource replica, DataSource primary, Duration retryInterval) {
+		super(replica);
+		this.primary = primary;
+		this.retryIntervalNanos = retryInterval.toNanos();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (this.unavailable && System.nanoTime() - this.retryAt < 0) {
+			return this.primary.getConnection();
+		}
+		try {
+			Connection connection = obtainTargetDataSource().getConnection();
+			if (this.unavailable) {
+				this.unavailable = false;
+				logger.info("Read replica is available again");
+			}
+			return connection;
+		}
+		catch (SQLException | RuntimeException ex) {
+			if (!this.unavailable) {
+				logger.warn("Read replica is unavailable, using the primary for read-only transactions", ex);
+			}
+			this.retryAt = System.nanoTime() + this.retryIntervalNanos;
+			this.unavailable = true;
+			return this.primary.getConnection();
+		}
+	}
+
+	boolean isReplicaUnavailable() {
+		return this.unavailable;
+	}
+
+}
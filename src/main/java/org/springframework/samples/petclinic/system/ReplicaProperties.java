@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the read replica used by {@link ReadReplicaConfiguration}, e.g.
+ * {@code petclinic.datasource.replica.url=jdbc:postgresql://replica/petclinic}. Pool
+ * settings go under {@code petclinic.datasource.replica.hikari}, as they do under
+ * {@code spring.datasource.hikari} for the primary.
+ *
+ * @param url the JDBC URL of the replica
+ * @param username the login user of the replica, the primary's if not set
+ * @param password the login password of the replica, the primary's if not set
+ * @param fallbackToPrimary whether read-only transactions use the primary while the
+ * replica cannot be reached, rather than fail
+ * @param retryInterval how long read-only transactions stay on the primary after the
+ * replica failed before it is tried again
+ * @param primaryAfterWrite how long a client reads from the primary after it wrote, so
+ * that it sees its own writes
+ */
+@ConfigurationProperties("petclinic.datasource.replica")
+record ReplicaProperties(String url, String username, String password, Boolean fallbackToPrimary,
+		Duration retryInterval, Duration primaryAfterWrite) {
+
+	ReplicaProperties {
+		fallbackToPrimary = (fallbackToPrimary != null) ? fallbackToPrimary : true;
+		retryInterval = (retryInterval != null) ? retryInterval : Duration.ofSeconds(30);
+		primaryAfterWrite = (primaryAfterWrite != null) ? primaryAfterWrite : Duration.ofSeconds(5);
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Configuration applied when the application runs on virtual threads, see the
+ * {@code virtual-threads} profile. Spring Boot then serves requests and runs
+ * {@code @Async} methods on virtual threads.
+ * <p>
+ * As any number of requests can now block on JDBC at the same time, the Hikari
+ * {@link DataSource} is wrapped in a {@link ConnectionLimitingDataSource} allowing as
+ * many concurrent connections as the pool holds.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableAsync
+class VirtualThreadsConfiguration {
+
+	@Bean
+	static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+		Duration acquireTimeout = environment.getProperty("petclinic.datasource.acquire-timeout", Duration.class,
+				Duration.ofSeconds(60));
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof HikariDataSource hikari) {
+					return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), acquireTimeout);
+				}
+				return bean;
+			}
+
+		};
+	}
+
+}
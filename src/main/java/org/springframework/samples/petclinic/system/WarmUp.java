@@ -0,0 +1,154 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.core.env.Environment;
+
+/**
+ * Requests the main pages from the application itself, over HTTP through the embedded
+ * server, so that the controllers, the Thymeleaf templates and everything below them are
+ * loaded, initialized and compiled by the JIT before real traffic arrives. Pages are only
+ * read, and forms are submitted with missing fields so that they are rejected without
+ * writing. Must be run once the web server has started.
+ * <p>
+ * Every request is sent on a connection of its own that is closed once answered, so that
+ * no socket is left open when a checkpoint is taken right after.
+ * </p>
+ */
+class WarmUp {
+
+	private final Environment environment;
+
+	private final WarmUpProperties properties;
+
+	WarmUp(Environment environment, WarmUpProperties properties) {
+		this.environment = environment;
+		this.properties = properties;
+	}
+
+	/**
+	 * Request every page and submit every form the configured number of times, in a
+	 * different order each time.
+	 * @return the number of requests sent and failed, and how their latency improved
+	 */
+	Result run() {
+		String base = "http://localhost:" + this.environment.getRequiredProperty("local.server.port")
+				+ this.environment.getProperty("server.servlet.context-path", "");
+		List<Request> requests = new ArrayList<>();
+		for (String path : this.properties.paths()) {
+			requests.add(new Request(base + path, "GET"));
+		}
+		for (String form : this.properties.forms()) {
+			requests.add(new Request(base + form, "POST"));
+		}
+		int iterations = this.properties.iterations();
+		long[] latencies = new long[requests.size() * iterations];
+		Random random = new Random(0);
+		long start = System.nanoTime();
+		int errors = 0;
+		for (int i = 0; i < iterations; i++) {
+			List<Request> mix = new ArrayList<>(requests);
+			Collections.shuffle(mix, random);
+			for (int j = 0; j < mix.size(); j++) {
+				long requestStart = System.nanoTime();
+				if (!send(mix.get(j))) {
+					errors++;
+				}
+				latencies[i * mix.size() + j] = System.nanoTime() - requestStart;
+			}
+		}
+		Duration duration = Duration.ofNanos(System.nanoTime() - start);
+		// compare the first tenth of the iterations with the last one
+		int window = Math.max(1, iterations / 10) * requests.size();
+		return new Result(latencies.length, errors, duration, p99(latencies, 0, window),
+				p99(latencies, latencies.length - window, latencies.length));
+	}
+
+	private static Duration p99(long[] latencies, int from, int to) {
+		if (from >= to) {
+			return Duration.ZERO;
+		}
+		long[] sorted = Arrays.copyOfRange(latencies, from, to);
+		Arrays.sort(sorted);
+		return Duration.ofNanos(sorted[(int) Math.ceil(sorted.length * 0.99) - 1]);
+	}
+
+	private boolean send(Request request) {
+		HttpURLConnection connection = null;
+		try {
+			connection = (HttpURLConnection) request.uri().toURL().openConnection();
+			int timeout = (int) this.properties.requestTimeout().toMillis();
+			connection.setConnectTimeout(timeout);
+			connection.setReadTimeout(timeout);
+			connection.setRequestMethod(request.method());
+			connection.setRequestProperty("Connection", "close");
+			if ("POST".equals(request.method())) {
+				connection.setDoOutput(true);
+				connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+				// no fields
+				connection.getOutputStream().close();
+			}
+			int status = connection.getResponseCode();
+			try (InputStream body = (status < 400) ? connection.getInputStream() : connection.getErrorStream()) {
+				if (body != null) {
+					body.readAllBytes();
+				}
+			}
+			return status < 400;
+		}
+		catch (IOException ex) {
+			return false;
+		}
+		finally {
+			if (connection != null) {
+				connection.disconnect();
+			}
+		}
+	}
+
+	private record Request(URI uri, String method) {
+
+		Request(String uri, String method) {
+			this(URI.create(uri), method);
+		}
+
+	}
+
+	/**
+	 * Outcome of a warm-up.
+	 *
+	 * @param requests the number of requests sent
+	 * @param errors the number of requests that failed or were answered with an error
+	 * @param duration the time the warm-up took
+	 * @param initialP99 the 99th percentile latency of the first tenth of the iterations
+	 * @param finalP99 the 99th percentile latency of the last tenth of the iterations
+	 */
+	record Result(int requests, int errors, Duration duration, Duration initialP99, Duration finalP99) {
+
+	}
+
+}
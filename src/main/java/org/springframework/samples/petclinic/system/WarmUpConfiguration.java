@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.samples.petclinic.owner.PetTypeRegistry;
+import org.springframework.samples.petclinic.vet.VetRepository;
+
+/**
+ * Configures the {@link WarmUp} of the application through its own web server and, when
+ * {@code petclinic.warm-up.enabled} is set, runs it once the application has started.
+ * Spring Boot only reports the application ready to take traffic after the runners
+ * completed, and the {@link WarmUpHealthIndicator} makes that visible in the readiness
+ * health group.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(WarmUpProperties.class)
+class WarmUpConfiguration {
+
+	private static final Log logger = LogFactory.getLog(WarmUpConfiguration.class);
+
+	@Bean
+	WarmUp warmUp(Environment environment, WarmUpProperties properties) {
+		return new WarmUp(environment, properties);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "petclinic.warm-up.enabled", havingValue = "true")
+	WarmUpHealthIndicator warmUpHealthIndicator() {
+		return new WarmUpHealthIndicator();
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "petclinic.warm-up.enabled", havingValue = "true")
+	ApplicationRunner warmUpRunner(WarmUp warmUp, WarmUpHealthIndicator health, VetRepository vets,
+			PetTypeRegistry petTypes) {
+		return args -> {
+			// fill the caches of the reference data first, the pages then hit them
+			vets.findAll();
+			petTypes.getPetTypes();
+			WarmUp.Result result = warmUp.run();
+			logger.info(String.format("Warmed up with %d requests, %d failed, in %d ms, p99 from %d ms to %d ms",
+					result.requests(), result.errors(), result.duration().toMillis(), result.initialP99().toMillis(),
+					result.finalP99().toMillis()));
+			health.finished(result);
+		};
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * Reports the application out of service until the {@link WarmUp} run at startup has
+ * finished, and its outcome afterwards. Added to the {@code readiness} health group, e.g.
+ * {@code management.endpoint.health.group.readiness.include=readinessState,warmUp}, so
+ * that no traffic is routed to the application before it is warm.
+ */
+class WarmUpHealthIndicator implements HealthIndicator {
+
+	private volatile WarmUp.Result result;
+
+	void finished(WarmUp.Result result) {
+		this.result = result;
+	}
+
+	@Override
+	public Health health() {
+		WarmUp.Result current = this.result;
+		if (current == null) {
+			return Health.outOfService().withDetail("warmUp", "in progress").build();
+		}
+		return Health.up()
+			.withDetail("requests", current.requests())
+			.withDetail("errors", current.errors())
+			.withDetail("duration", current.duration().toMillis() + "ms")
+			.withDetail("initialP99", current.initialP99().toMillis() + "ms")
+			.withDetail("finalP99", current.finalP99().toMillis() + "ms")
+			.build();
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings of the {@link WarmUp}.
+ *
+ * @param enabled whether the application warms up once started, and only reports ready to
+ * take traffic afterwards
+ * @param iterations how many times every page is requested
+ * @param paths the pages requested, read only
+ * @param forms the forms submitted with missing fields, rejected without writing
+ * @param requestTimeout the time after which a request counts as failed
+ */
+@ConfigurationProperties("petclinic.warm-up")
+record WarmUpProperties(Boolean enabled, Integer iterations, List<String> paths, List<String> forms,
+		Duration requestTimeout) {
+
+	WarmUpProperties {
+		enabled = (enabled != null) ? enabled : false;
+		iterations = (iterations != null) ? iterations : 200;
+		paths = (paths != null) ? paths
+				: List.of("/", "/vets.html", "/vets", "/owners/find", "/owners?lastName=", "/owners?lastName=Davis",
+						"/owners/1", "/owners/1/edit", "/owners/new", "/owners/1/pets/new", "/owners/1/pets/1/edit",
+						"/owners/1/pets/1/visits/new", "/owners/1/pets/1/visits");
+		forms = (forms != null) ? forms : List.of("/owners/new", "/owners/1/pets/new");
+		requestTimeout = (requestTimeout != null) ? requestTimeout : Duration.ofSeconds(10);
+	}
+
+}
@@ -20,11 +20,15 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.samples.petclinic.model.KeysetCursor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
 
 /**
  * @author Juergen Hoeller
@@ -42,7 +46,15 @@ class VetController {
 	}
 
 	@GetMapping("/vets.html")
-	public String showVetList(@RequestParam(defaultValue = "1") int page, Model model) {
+	public String showVetList(@RequestParam(defaultValue = "1") int page, @RequestParam(required = false) String cursor,
+			Model model) {
+		// pages are numbered from 1, a lower number shows the first page
+		page = Math.max(page, 1);
+
+		// a cursor parameter, even an empty one, switches to keyset pagination
+		if (cursor != null) {
+			return addKeysetModel(cursor, findKeyset(cursor), model);
+		}
 		// Here we are returning an object of type 'Vets' rather than a collection of Vet
 		// objects so it is simpler for Object-Xml mapping
 		Vets vets = new Vets();
@@ -60,6 +72,30 @@ class VetController {
 		return "vets/vetList";
 	}
 
+	private String addKeysetModel(String cursor, Slice<Vet> slice, Model model) {
+		List<Vet> listVets = slice.getContent();
+		String nextCursor = slice.hasNext() ? KeysetCursor.after(listVets.get(listVets.size() - 1)).encode() : null;
+		model.addAttribute("cursor", cursor);
+		model.addAttribute("nextCursor", nextCursor);
+		model.addAttribute("listVets", listVets);
+		return "vets/vetList";
+	}
+
+	private Slice<Vet> findKeyset(String cursor) {
+		int pageSize = 5;
+		KeysetCursor position = decodeCursor(cursor);
+		return vetRepository.findAllAfter(position.lastName(), position.id(), PageRequest.ofSize(pageSize));
+	}
+
+	private static KeysetCursor decodeCursor(String cursor) {
+		try {
+			return KeysetCursor.decode(cursor);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
 	private Page<Vet> findPaginated(int page) {
 		int pageSize = 5;
 		Pageable pageable = PageRequest.of(page - 1, pageSize);
@@ -19,6 +19,8 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,13 +48,31 @@ public interface VetRepository extends Repository<Vet, Integer> {
 	Collection<Vet> findAll() throws DataAccessException;
 
 	/**
-	 * Retrieve all <code>Vet</code>s from data store in Pages
+	 * Retrieve all <code>Vet</code>s from data store in Pages, ordered by last name and
+	 * id like the keyset pages of {@link #findAllAfter}. The pages are cached apart from
+	 * the full list, keyed by page number, size and sort.
 	 * @param pageable
 	 * @return
 	 * @throws DataAccessException
 	 */
 	@Transactional(readOnly = true)
-	@Cacheable("vets")
+	@Cacheable(cacheNames = "vet-pages", keyGenerator = "pageableKeyGenerator")
+	@Query(value = "SELECT v FROM Vet v ORDER BY v.lastName, v.id", countQuery = "SELECT count(v) FROM Vet v")
 	Page<Vet> findAll(Pageable pageable) throws DataAccessException;
 
+	/**
+	 * Retrieve a keyset (seek) page of <code>Vet</code>s ordered by last name and id,
+	 * positioned after the given last name and id. No count query is issued.
+	 * @param lastName last name of the last vet of the previous page
+	 * @param id id of the last vet of the previous page
+	 * @param pageable the page size, the page number is expected to be {@code 0}
+	 * @return a <code>Slice</code> of <code>Vet</code>s
+	 * @throws DataAccessException
+	 * @see org.springframework.samples.petclinic.model.KeysetCursor
+	 */
+	@Transactional(readOnly = true)
+	@Query("SELECT v FROM Vet v WHERE v.lastName > :lastName OR (v.lastName = :lastName AND v.id > :id) "
+			+ "ORDER BY v.lastName, v.id")
+	Slice<Vet> findAllAfter(String lastName, int id, Pageable pageable) throws DataAccessException;
+
 }
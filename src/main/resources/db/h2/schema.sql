@@ -1,3 +1,6 @@
+DROP TABLE change_events_purged IF EXISTS;
+DROP TABLE change_events IF EXISTS;
+DROP TABLE appointments IF EXISTS;
 DROP TABLE vet_specialties IF EXISTS;
 DROP TABLE vets IF EXISTS;
 DROP TABLE specialties IF EXISTS;
@@ -5,6 +8,7 @@ DROP TABLE visits IF EXISTS;
 DROP TABLE pets IF EXISTS;
 DROP TABLE types IF EXISTS;
 DROP TABLE owners IF EXISTS;
+DROP SEQUENCE IF EXISTS petclinic_seq;
 
 
 CREATE TABLE vets (
@@ -62,3 +66,33 @@ CREATE TABLE visits (
 );
 ALTER TABLE visits ADD CONSTRAINT fk_visits_pets FOREIGN KEY (pet_id) REFERENCES pets (id);
 CREATE INDEX visits_pet_id ON visits (pet_id);
+
+CREATE SEQUENCE petclinic_seq START WITH 100 INCREMENT BY 50;
+
+CREATE TABLE appointments (
+  id         INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  vet_id     INTEGER NOT NULL,
+  visit_id   INTEGER NOT NULL,
+  start_time TIMESTAMP NOT NULL,
+  end_time   TIMESTAMP NOT NULL
+);
+ALTER TABLE appointments ADD CONSTRAINT fk_appointments_vets FOREIGN KEY (vet_id) REFERENCES vets (id);
+ALTER TABLE appointments ADD CONSTRAINT fk_appointments_visits FOREIGN KEY (visit_id) REFERENCES visits (id);
+ALTER TABLE appointments ADD CONSTRAINT uk_appointments_visit UNIQUE (visit_id);
+CREATE INDEX appointments_vet_id ON appointments (vet_id, start_time);
+
+CREATE TABLE change_events (
+  id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  owner_id    INTEGER NOT NULL,
+  entity      VARCHAR(10) NOT NULL,
+  entity_id   INTEGER NOT NULL,
+  operation   VARCHAR(10) NOT NULL,
+  recorded_at TIMESTAMP NOT NULL,
+  payload     VARCHAR(1000) NOT NULL
+);
+CREATE INDEX change_events_recorded_at ON change_events (recorded_at);
+CREATE INDEX change_events_owner_id ON change_events (owner_id, id);
+
+CREATE TABLE change_events_purged (
+  max_id BIGINT NOT NULL
+);
@@ -51,3 +51,16 @@ INSERT IGNORE INTO visits VALUES (1, 7, '2010-03-04', 'rabies shot');
 INSERT IGNORE INTO visits VALUES (2, 8, '2011-03-04', 'rabies shot');
 INSERT IGNORE INTO visits VALUES (3, 8, '2009-06-04', 'neutered');
 INSERT IGNORE INTO visits VALUES (4, 7, '2008-09-04', 'spayed');
+
+-- Move petclinic_seq past every id in use, so that ids allocated by the application
+-- never collide with existing rows, e.g. in a database created before the sequence
+UPDATE petclinic_seq SET next_val = GREATEST(next_val, 50 + (
+  SELECT COALESCE(MAX(id), 0) FROM (
+    SELECT MAX(id) AS id FROM owners
+    UNION ALL SELECT MAX(id) FROM pets
+    UNION ALL SELECT MAX(id) FROM visits
+    UNION ALL SELECT MAX(id) FROM vets
+    UNION ALL SELECT MAX(id) FROM specialties
+    UNION ALL SELECT MAX(id) FROM types
+    UNION ALL SELECT MAX(id) FROM appointments
+  ) ids));
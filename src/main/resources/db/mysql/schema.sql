@@ -53,3 +53,35 @@ CREATE TABLE IF NOT EXISTS visits (
   description VARCHAR(255),
   FOREIGN KEY (pet_id) REFERENCES pets(id)
 ) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS petclinic_seq (
+  next_val BIGINT NOT NULL
+) engine=InnoDB;
+INSERT INTO petclinic_seq (next_val) SELECT 100 FROM DUAL WHERE NOT EXISTS (SELECT * FROM petclinic_seq);
+
+CREATE TABLE IF NOT EXISTS appointments (
+  id INT(4) UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  vet_id INT(4) UNSIGNED NOT NULL,
+  visit_id INT(4) UNSIGNED NOT NULL UNIQUE,
+  start_time DATETIME NOT NULL,
+  end_time DATETIME NOT NULL,
+  INDEX(vet_id, start_time),
+  FOREIGN KEY (vet_id) REFERENCES vets(id),
+  FOREIGN KEY (visit_id) REFERENCES visits(id)
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS change_events (
+  id BIGINT UNSIGNED NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  owner_id INT(4) UNSIGNED NOT NULL,
+  entity VARCHAR(10) NOT NULL,
+  entity_id INT(4) UNSIGNED NOT NULL,
+  operation VARCHAR(10) NOT NULL,
+  recorded_at TIMESTAMP(3) NOT NULL,
+  payload TEXT NOT NULL,
+  INDEX(recorded_at),
+  INDEX(owner_id, id)
+) engine=InnoDB;
+
+CREATE TABLE IF NOT EXISTS change_events_purged (
+  max_id BIGINT UNSIGNED NOT NULL
+) engine=InnoDB;
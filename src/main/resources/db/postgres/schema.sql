@@ -50,3 +50,30 @@ CREATE TABLE IF NOT EXISTS visits (
   description TEXT
 );
 CREATE INDEX ON visits (pet_id);
+
+CREATE SEQUENCE IF NOT EXISTS petclinic_seq START WITH 100 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS appointments (
+  id         INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  vet_id     INT NOT NULL REFERENCES vets (id),
+  visit_id   INT NOT NULL UNIQUE REFERENCES visits (id),
+  start_time TIMESTAMP NOT NULL,
+  end_time   TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS appointments_vet_id ON appointments (vet_id, start_time);
+
+CREATE TABLE IF NOT EXISTS change_events (
+  id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  owner_id    INT NOT NULL,
+  entity      TEXT NOT NULL,
+  entity_id   INT NOT NULL,
+  operation   TEXT NOT NULL,
+  recorded_at TIMESTAMP NOT NULL,
+  payload     TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS change_events_recorded_at ON change_events (recorded_at);
+CREATE INDEX IF NOT EXISTS change_events_owner_id ON change_events (owner_id, id);
+
+CREATE TABLE IF NOT EXISTS change_events_purged (
+  max_id BIGINT NOT NULL
+);
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration test of {@link AppointmentBook}, including a stress test that books
+ * overlapping slots of two vets from many threads at once and checks that no vet ends up
+ * booked twice for the same time. Each test books on a day of its own.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AppointmentBookTests {
+
+	@Autowired
+	private AppointmentBook book;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void shouldRejectOverlappingBooking() {
+		LocalDateTime start = LocalDateTime.of(2030, 1, 7, 10, 0);
+		Appointment booked = book(1, TimeSlot.of(start, Duration.ofMinutes(30)));
+		assertThat(booked.getId()).isNotNull();
+		assertThat(booked.getVisit().getDate()).isEqualTo(start.toLocalDate());
+
+		assertThatExceptionOfType(AppointmentConflictException.class)
+			.isThrownBy(() -> book(1, TimeSlot.of(start.plusMinutes(15), Duration.ofMinutes(30))))
+			.satisfies(ex -> assertThat(ex.getConflict()).isEqualTo(booked.getSlot()));
+		// another vet, and the same vet right after, are free
+		book(2, TimeSlot.of(start, Duration.ofMinutes(30)));
+		book(1, TimeSlot.of(start.plusMinutes(30), Duration.ofMinutes(30)));
+	}
+
+	@Test
+	void shouldRejectPetOfAnotherOwner() {
+		TimeSlot slot = TimeSlot.of(LocalDateTime.of(2030, 1, 10, 10, 0), Duration.ofMinutes(30));
+		assertThatIllegalArgumentException().isThrownBy(() -> this.book.book(1, 1, 7, "checkup", slot));
+		// the slot is still free
+		book(1, slot);
+	}
+
+	@Test
+	void shouldNeverDoubleBookUnderConcurrentBookings() throws Exception {
+		LocalDateTime nine = LocalDateTime.of(2030, 1, 8, 9, 0);
+		int threads = 16;
+		int bookings = 200;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < bookings; i++) {
+				int vetId = 1 + i % 2;
+				// 12 slots of 30 minutes per vet, 20 minutes apart, each overlapping its
+				// neighbours
+				TimeSlot slot = TimeSlot.of(nine.plusMinutes(10L * (i % 24)), Duration.ofMinutes(30));
+				results.add(executor.submit(() -> {
+					start.await();
+					try {
+						book(vetId, slot);
+						return true;
+					}
+					catch (AppointmentConflictException ex) {
+						return false;
+					}
+				}));
+			}
+			start.countDown();
+			int booked = 0;
+			for (Future<Boolean> result : results) {
+				booked += result.get(30, TimeUnit.SECONDS) ? 1 : 0;
+			}
+
+			List<Booking> stored = this.jdbcTemplate.query(
+					"SELECT vet_id, start_time, end_time FROM appointments WHERE start_time >= ? AND start_time < ?",
+					(rs, rowNum) -> new Booking(rs.getInt(1),
+							new TimeSlot(rs.getTimestamp(2).toLocalDateTime(), rs.getTimestamp(3).toLocalDateTime())),
+					nine, nine.plusDays(1));
+			assertThat(stored).hasSize(booked);
+			for (Booking one : stored) {
+				assertThat(stored).filteredOn(other -> other != one && other.vetId() == one.vetId())
+					.noneMatch(other -> other.slot().overlaps(one.slot()));
+			}
+			// between every third and every other slot of each vet, depending on the
+			// order
+			assertThat(booked).isBetween(8, 12);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldBookOverHttp() throws Exception {
+		this.mockMvc
+			.perform(post("/owners/{ownerId}/pets/{petId}/appointments", 6, 7).param("vetId", "3")
+				.param("start", "2030-01-09T14:00:00")
+				.param("minutes", "45")
+				.param("description", "dental check"))
+			.andExpect(status().isCreated())
+			.andExpect(jsonPath("$.vetId").value(3))
+			.andExpect(jsonPath("$.slot.end").value(startsWith("2030-01-09T14:45")));
+		this.mockMvc
+			.perform(post("/owners/{ownerId}/pets/{petId}/appointments", 6, 8).param("vetId", "3")
+				.param("start", "2030-01-09T14:30:00")
+				.param("description", "vaccination"))
+			.andExpect(status().isConflict());
+		this.mockMvc
+			.perform(get("/vets/{vetId}/appointments/free", 3).param("from", "2030-01-09T13:00:00")
+				.param("until", "2030-01-09T16:00:00")
+				.param("minutes", "30"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].end").value("2030-01-09T14:00:00"))
+			.andExpect(jsonPath("$[1].start").value("2030-01-09T14:45:00"));
+	}
+
+	private Appointment book(int vetId, TimeSlot slot) {
+		return this.book.book(vetId, 6, 7, "checkup", slot);
+	}
+
+	private record Booking(int vetId, TimeSlot slot) {
+
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.appointment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link VetSchedule}.
+ */
+class VetScheduleTests {
+
+	private static final LocalDateTime NINE = LocalDateTime.of(2030, 3, 4, 9, 0);
+
+	private final VetSchedule schedule = new VetSchedule(List.of(slot(0, 30), slot(60, 30), slot(150, 60)));
+
+	@Test
+	void shouldAllowAdjacentSlots() {
+		assertThat(this.schedule.findConflict(slot(30, 30))).isNull();
+		assertThat(this.schedule.findConflict(slot(90, 60))).isNull();
+		assertThat(this.schedule.findConflict(slot(-30, 30))).isNull();
+	}
+
+	@Test
+	void shouldFindOverlappingSlot() {
+		assertThat(this.schedule.findConflict(slot(20, 20))).isEqualTo(slot(0, 30));
+		assertThat(this.schedule.findConflict(slot(45, 30))).isEqualTo(slot(60, 30));
+		assertThat(this.schedule.findConflict(slot(160, 10))).isEqualTo(slot(150, 60));
+		// spanning several booked slots, the last one is reported
+		assertThat(this.schedule.findConflict(slot(-60, 300))).isEqualTo(slot(150, 60));
+	}
+
+	@Test
+	void shouldFindFreeSlotsLongEnough() {
+		List<TimeSlot> free = this.schedule.findFree(slot(15, 300), Duration.ofMinutes(30), 10);
+		assertThat(free).containsExactly(slot(30, 30), slot(90, 60), slot(210, 105));
+	}
+
+	@Test
+	void shouldSkipFreeSlotsTooShort() {
+		List<TimeSlot> free = this.schedule.findFree(slot(0, 240), Duration.ofMinutes(45), 10);
+		assertThat(free).containsExactly(slot(90, 60));
+	}
+
+	@Test
+	void shouldLimitFreeSlots() {
+		assertThat(this.schedule.findFree(slot(0, 600), Duration.ofMinutes(5), 2)).containsExactly(slot(30, 30),
+				slot(90, 60));
+	}
+
+	private static TimeSlot slot(int fromNine, int minutes) {
+		return TimeSlot.of(NINE.plusMinutes(fromNine), Duration.ofMinutes(minutes));
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.OwnerRepository;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetRepository;
+import org.springframework.samples.petclinic.owner.PetTypeRegistry;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration test of the change feed, from the owner, pet and visit writes to the
+ * {@code /changes} endpoints. The settle time is turned off so that changes can be read
+ * right after they were made, and the stream is polled by the tests.
+ */
+@SpringBootTest(properties = { "petclinic.changes.settle-time=0s", "petclinic.changes.poll-interval=1h" })
+@AutoConfigureMockMvc
+class ChangeFeedTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Autowired
+	private PetRepository pets;
+
+	@Autowired
+	private PetTypeRegistry petTypes;
+
+	@Autowired
+	private ChangeFeed feed;
+
+	@Autowired
+	private ChangeStream stream;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void shouldRecordOwnerWithPetInOrder() {
+		long cursor = latestCursor();
+		Owner owner = newOwner("Zhang");
+		Pet pet = new Pet();
+		pet.setName("Mochi");
+		pet.setBirthDate(LocalDate.of(2020, 4, 1));
+		pet.setType(this.petTypes.findByName("cat"));
+		owner.addPet(pet);
+		this.owners.save(owner);
+
+		ChangeBatch batch = this.feed.read(cursor, owner.getId(), 10);
+		assertThat(batch.changes()).extracting(ChangeEvent::entity, ChangeEvent::entityId, ChangeEvent::operation)
+			.containsExactly(tuple("owner", owner.getId(), "insert"), tuple("pet", pet.getId(), "insert"));
+		assertThat(batch.changes().get(1).data()).contains("\"name\":\"Mochi\"", "\"type\":\"cat\"");
+		assertThat(batch.cursor()).isEqualTo(batch.changes().get(1).id());
+		assertThat(batch.hasMore()).isFalse();
+	}
+
+	@Test
+	void shouldRecordPetDetailsUpdate() {
+		long cursor = latestCursor();
+		this.pets.updateDetails(8, "Max", LocalDate.of(2012, 9, 4), this.petTypes.findByName("cat"));
+
+		ChangeBatch batch = this.feed.read(cursor, null, 10);
+		assertThat(batch.changes()).singleElement().satisfies(change -> {
+			assertThat(change.ownerId()).isEqualTo(6);
+			assertThat(change.entity()).isEqualTo("pet");
+			assertThat(change.entityId()).isEqualTo(8);
+			assertThat(change.operation()).isEqualTo("update");
+		});
+	}
+
+	@Test
+	void shouldReadChangesInBatches() throws Exception {
+		long cursor = latestCursor();
+		this.owners.save(newOwner("Okafor"));
+		this.owners.save(newOwner("Lindqvist"));
+
+		this.mockMvc.perform(get("/changes").param("after", Long.toString(cursor)).param("limit", "1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.changes.length()").value(1))
+			.andExpect(jsonPath("$.changes[0].data.lastName").value("Okafor"))
+			.andExpect(jsonPath("$.cursor").value(cursor + 1))
+			.andExpect(jsonPath("$.hasMore").value(true));
+		this.mockMvc.perform(get("/changes").param("after", Long.toString(cursor + 1)).param("limit", "1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.changes[0].data.lastName").value("Lindqvist"))
+			.andExpect(jsonPath("$.hasMore").value(false));
+	}
+
+	@Test
+	void shouldRejectCursorPastRetention() throws Exception {
+		this.owners.save(newOwner("Novak"));
+		long expired = latestCursor();
+		this.owners.save(newOwner("Novak"));
+		long retained = latestCursor();
+		this.owners.save(newOwner("Novak"));
+		this.jdbcTemplate.update("UPDATE change_events SET recorded_at = ? WHERE id <= ?",
+				Timestamp.from(Instant.now().minus(Duration.ofDays(365))), retained);
+		this.feed.purgeExpired();
+
+		this.mockMvc.perform(get("/changes").param("after", Long.toString(expired))).andExpect(status().isGone());
+		this.mockMvc.perform(get("/changes").param("after", Long.toString(retained))).andExpect(status().isOk());
+	}
+
+	@Test
+	void shouldAcceptCursorBeforeGapInIds() throws Exception {
+		this.owners.save(newOwner("Haddad"));
+		long cursor = latestCursor();
+		this.jdbcTemplate.update("ALTER TABLE change_events ALTER COLUMN id RESTART WITH " + (cursor + 10));
+		this.owners.save(newOwner("Haddad"));
+		this.jdbcTemplate.update("DELETE FROM change_events WHERE id <= ?", cursor);
+
+		this.mockMvc.perform(get("/changes").param("after", Long.toString(cursor)))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.cursor").value(cursor + 10));
+	}
+
+	@Test
+	void shouldStreamChangesAfterLastEventId() throws Exception {
+		this.owners.save(newOwner("Silva"));
+		long cursor = latestCursor();
+		MvcResult result = this.mockMvc.perform(get("/changes/stream").header("Last-Event-ID", cursor))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+		this.owners.save(newOwner("Moreau"));
+		this.stream.poll();
+
+		String events = result.getResponse().getContentAsString();
+		assertThat(events).contains("id:" + (cursor + 1), "event:change", "Moreau").doesNotContain("Silva");
+	}
+
+	private long latestCursor() {
+		return this.jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM change_events", Long.class);
+	}
+
+	private static Owner newOwner(String lastName) {
+		Owner owner = new Owner();
+		owner.setFirstName("Alex");
+		owner.setLastName(lastName);
+		owner.setAddress("1 Harbour Road");
+		owner.setCity("Portsmouth");
+		owner.setTelephone("0239000000");
+		return owner;
+	}
+
+}
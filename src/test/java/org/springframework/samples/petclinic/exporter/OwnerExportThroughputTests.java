@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+
+/**
+ * Exports a generated dataset of several million rows from a file based H2 database and
+ * reports the throughput. The live heap is measured during the export, and must not have
+ * grown by more than a small fraction of what the rows would take as entities.
+ * <p>
+ * The number of owners defaults to 250,000, each with two pets of three visits, i.e. 2.25
+ * million rows, and can be changed with the {@code petclinic.export.owners} system
+ * property. Tagged as a benchmark, run it with {@code ./mvnw test -P benchmark}.
+ * </p>
+ */
+@Tag("benchmark")
+class OwnerExportThroughputTests {
+
+	private static final Log logger = LogFactory.getLog(OwnerExportThroughputTests.class);
+
+	private static final int OWNERS = Integer.getInteger("petclinic.export.owners", 250_000);
+
+	private static final long MAX_HEAP_GROWTH = 64 * 1024 * 1024;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void exportGeneratedDataset() throws IOException {
+		SpringApplicationBuilder builder = new SpringApplicationBuilder(PetClinicApplication.class)
+			.web(WebApplicationType.NONE)
+			.properties("spring.datasource.url=jdbc:h2:file:" + this.dir.resolve("petclinic") + ";CACHE_SIZE=16384",
+					"spring.sql.init.mode=always", "logging.level.root=WARN");
+		try (ConfigurableApplicationContext context = builder.run()) {
+			JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+			generate(jdbcTemplate);
+			long rows = count(jdbcTemplate, "owners") + count(jdbcTemplate, "pets") + count(jdbcTemplate, "visits");
+
+			for (ExportFormat format : ExportFormat.values()) {
+				HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+				ExportReport report = context.getBean(OwnerExporter.class).export(format, out);
+
+				logger.info(String.format("Exported %d rows as %s, %d MB, in %d ms: %.0f rows/s, heap growth %d MB",
+						report.rows(), format, out.count >> 20, report.duration().toMillis(), report.rowsPerSecond(),
+						out.heapGrowth >> 20));
+				assertThat(report.rows()).isEqualTo(rows);
+				assertThat(out.sampled).as("heap sampled during the export").isTrue();
+				assertThat(out.heapGrowth).isLessThan(MAX_HEAP_GROWTH);
+			}
+		}
+	}
+
+	private void generate(JdbcTemplate jdbcTemplate) {
+		jdbcTemplate.update("""
+				INSERT INTO owners (first_name, last_name, address, city, telephone)
+				SELECT CONCAT('First', X), CONCAT('Last', X), CONCAT(X, ' Main St.'), 'Madison', '6085550000'
+				FROM SYSTEM_RANGE(1, ?)""", OWNERS);
+		jdbcTemplate.update("""
+				INSERT INTO pets (name, birth_date, type_id, owner_id)
+				SELECT CONCAT('Pet', r.X), DATE '2020-01-01', 1, o.id FROM owners o CROSS JOIN SYSTEM_RANGE(1, 2) r""");
+		jdbcTemplate
+			.update("""
+					INSERT INTO visits (pet_id, visit_date, description)
+					SELECT p.id, DATEADD(DAY, r.X, DATE '2021-01-01'), 'checkup' FROM pets p CROSS JOIN SYSTEM_RANGE(1, 3) r""");
+	}
+
+	private long count(JdbcTemplate jdbcTemplate, String table) {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+	}
+
+	/**
+	 * Discards the export, measuring the live heap before the first byte and once a sixth
+	 * of the expected CSV output has been written.
+	 */
+	private static final class HeapSamplingOutputStream extends OutputStream {
+
+		private final long baseline = liveHeap();
+
+		private final long sampleAt = OWNERS * 40L;
+
+		private long count;
+
+		private boolean sampled;
+
+		private long heapGrowth;
+
+		@Override
+		public void write(int b) {
+			this.count++;
+			sample();
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			this.count += len;
+			sample();
+		}
+
+		private void sample() {
+			if (!this.sampled && this.count >= this.sampleAt) {
+				this.heapGrowth = liveHeap() - this.baseline;
+				this.sampled = true;
+			}
+		}
+
+		private static long liveHeap() {
+			Runtime runtime = Runtime.getRuntime();
+			System.gc();
+			return runtime.totalMemory() - runtime.freeMemory();
+		}
+
+	}
+
+}
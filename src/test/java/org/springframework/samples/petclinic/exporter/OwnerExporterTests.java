@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.samples.petclinic.importer.BulkImporter;
+import org.springframework.samples.petclinic.importer.ImportReport;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests of the {@link OwnerExporter} and its endpoints against the sample data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OwnerExporterTests {
+
+	@Autowired
+	private OwnerExporter exporter;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BulkImporter importer;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void shouldExportCsv() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		ExportReport report = this.exporter.export(ExportFormat.CSV, out);
+
+		assertThat(report.owners()).isEqualTo(10);
+		assertThat(report.pets()).isEqualTo(13);
+		assertThat(report.visits()).isEqualTo(4);
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).hasSize(27);
+		assertThat(lines.subList(0, 2)).containsExactly("owner,George,Franklin,110 W. Liberty St.,Madison,6085551023",
+				"pet,Leo,2010-09-07,cat");
+		int coleman = lines.indexOf("owner,Jean,Coleman,105 N. Lake St.,Monona,6085552654");
+		assertThat(lines.subList(coleman + 1, coleman + 7)).containsExactly("pet,Samantha,2012-09-04,cat",
+				"visit,2013-01-01,rabies shot", "visit,2013-01-04,spayed", "pet,Max,2012-09-04,cat",
+				"visit,2013-01-02,rabies shot", "visit,2013-01-03,neutered");
+	}
+
+	@Test
+	void shouldExportNdjson() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		this.exporter.export(ExportFormat.NDJSON, out);
+
+		List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+		assertThat(lines).hasSize(10);
+		JsonNode coleman = this.objectMapper.readTree(lines.get(5));
+		assertThat(coleman.get("lastName").asText()).isEqualTo("Coleman");
+		assertThat(coleman.get("pets")).hasSize(2);
+		assertThat(coleman.at("/pets/1/name").asText()).isEqualTo("Max");
+		assertThat(coleman.at("/pets/1/visits/1/description").asText()).isEqualTo("neutered");
+		assertThat(this.objectMapper.readTree(lines.get(0)).at("/pets/0/visits")).isEmpty();
+	}
+
+	@Test
+	void shouldQuoteCsvFields() throws IOException {
+		StringWriter out = new StringWriter();
+		CsvExportWriter writer = new CsvExportWriter(out);
+
+		writer.visit(null, "checkup, \"all good\"");
+		writer.finish();
+
+		assertThat(out).hasToString("visit,,\"checkup, \"\"all good\"\"\"\n");
+	}
+
+	@Test
+	@Transactional
+	void shouldRoundTripThroughTheImporter() throws IOException {
+		Path csv = exportTo(ExportFormat.CSV);
+		Path ndjson = exportTo(ExportFormat.NDJSON);
+
+		for (Path file : List.of(csv, ndjson)) {
+			ImportReport report = this.importer.importFile(file);
+
+			assertThat(report.errors()).isEmpty();
+			assertThat(report.owners()).isEqualTo(10);
+			assertThat(report.pets()).isEqualTo(13);
+			assertThat(report.visits()).isEqualTo(4);
+		}
+	}
+
+	@Test
+	void shouldStreamToTheResponse() throws Exception {
+		this.mockMvc.perform(get("/export/owners.ndjson"))
+			.andExpect(status().isOk())
+			.andExpect(content().contentType("application/x-ndjson"))
+			.andExpect(header().string("Content-Disposition", "attachment; filename=\"owners.ndjson\""));
+		this.mockMvc.perform(get("/export/owners.csv"))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith("text/csv"))
+			.andExpect(content().string(startsWith("owner,George,Franklin,")));
+	}
+
+	private Path exportTo(ExportFormat format) throws IOException {
+		Path file = this.dir.resolve("owners." + format.getExtension());
+		try (OutputStream out = Files.newOutputStream(file)) {
+			this.exporter.export(format, out);
+		}
+		return file;
+	}
+
+}
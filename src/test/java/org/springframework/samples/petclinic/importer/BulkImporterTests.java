@@ -0,0 +1,153 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.importer.ImportReport.RowError;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration test of the {@link BulkImporter} against the default database. Each test
+ * runs in a transaction that is rolled back, the import batches join it.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.NONE, properties = "petclinic.import.batch-size=2")
+@Transactional
+class BulkImporterTests {
+
+	@Autowired
+	private BulkImporter importer;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void shouldImportCsv() throws IOException {
+		Path file = write("owners.csv", """
+				# owners with their pets and visits
+				owner,Ada,Lovelace,"12 St. James's Square, London",London,0123456789
+				pet,Bit,2020-01-01,cat
+				visit,2021-02-03,"checkup, ""all good""\"
+				visit,2021-05-06,vaccine
+				pet,Byte,2021-01-01,dog
+
+				owner,Alan,Turing,Sherborne,Bletchley,0123456780
+				owner,Grace,Hopper,Arlington,Arlington,0123456781
+				pet,Cobol,2019-07-01,snake
+				""");
+
+		ImportReport report = this.importer.importFile(file);
+
+		assertThat(report.rows()).isEqualTo(8);
+		assertThat(report.owners()).isEqualTo(3);
+		assertThat(report.pets()).isEqualTo(3);
+		assertThat(report.visits()).isEqualTo(2);
+		assertThat(report.rejected()).isZero();
+		assertThat(report.errors()).isEmpty();
+		assertThat(this.jdbcTemplate.queryForObject("""
+				SELECT v.description FROM visits v JOIN pets p ON p.id = v.pet_id JOIN owners o ON o.id = p.owner_id
+				WHERE o.last_name = 'Lovelace' AND v.visit_date = '2021-02-03'""", String.class))
+			.isEqualTo("checkup, \"all good\"");
+		assertThat(this.jdbcTemplate.queryForObject("SELECT o.address FROM owners o WHERE o.last_name = 'Lovelace'",
+				String.class))
+			.isEqualTo("12 St. James's Square, London");
+		assertThat(count("SELECT COUNT(*) FROM pets p JOIN owners o ON o.id = p.owner_id WHERE o.last_name = 'Hopper'"))
+			.isEqualTo(1);
+	}
+
+	@Test
+	void shouldRejectInvalidOwnersAsAWhole() throws IOException {
+		Path file = write("owners.csv", """
+				owner,Ada,Lovelace,London,London,0123456789
+				pet,Bit,2020-01-01,unicorn
+				visit,2021-02-03,checkup
+				owner,Alan,Turing,Sherborne,Bletchley,not-a-phone
+				visit,2021-02-03,orphan
+				owner,Grace,Hopper,Arlington,Arlington,0123456781
+				pet,Cobol,yesterday,snake
+				owner,Linus,Torvalds,Portland,Portland,0123456782
+				pet,Tux,1996-06-01,bird
+				""");
+
+		ImportReport report = this.importer.importFile(file);
+
+		assertThat(report.rows()).isEqualTo(9);
+		assertThat(report.owners()).isEqualTo(1);
+		assertThat(report.pets()).isEqualTo(1);
+		assertThat(report.rejected()).isEqualTo(3);
+		assertThat(report.errors()).extracting(RowError::line).containsExactly(2L, 5L, 7L);
+		assertThat(report.errors()).extracting(RowError::message)
+			.containsExactly("unknown pet type unicorn", "visit row without a pet", "invalid date yesterday");
+		assertThat(count("SELECT COUNT(*) FROM owners WHERE last_name IN ('Lovelace', 'Turing', 'Hopper')")).isZero();
+	}
+
+	@Test
+	void shouldImportNdjson() throws IOException {
+		Path file = write("owners.ndjson",
+				"""
+						{"firstName":"Ada","lastName":"Lovelace","address":"London","city":"London","telephone":"0123456789","pets":[{"name":"Bit","birthDate":"2020-01-01","type":"cat","visits":[{"date":"2021-02-03","description":"checkup"}]}]}
+						{"firstName":"Alan","lastName":"Turing","address":"Sherborne","city":"Bletchley","telephone":"0123456780"}
+						{"firstName":"Grace","lastName":"Hopper","address":"Arlington","city":"Arlington","telephone":"0123456781","pets":[{"name":"Cobol","type":"snake"}]}
+						{"firstName":
+						""");
+
+		ImportReport report = this.importer.importFile(file);
+
+		assertThat(report.rows()).isEqualTo(4);
+		assertThat(report.owners()).isEqualTo(2);
+		assertThat(report.pets()).isEqualTo(1);
+		assertThat(report.visits()).isEqualTo(1);
+		assertThat(report.rejected()).isEqualTo(2);
+		assertThat(report.errors()).extracting(RowError::line).containsExactly(3L, 4L);
+		assertThat(report.errors().get(0).message()).isEqualTo("pets[0].birthDate: required");
+		assertThat(report.errors().get(1).message()).startsWith("invalid JSON");
+	}
+
+	@Test
+	void shouldValidateOwners() throws IOException {
+		Path file = write("owners.csv", """
+				owner,,Lovelace,London,London,0123456789
+				""");
+
+		ImportReport report = this.importer.importFile(file);
+
+		assertThat(report.rejected()).isEqualTo(1);
+		assertThat(report.errors()).singleElement()
+			.satisfies(error -> assertThat(error.message()).startsWith("firstName: "));
+	}
+
+	private Path write(String name, String content) throws IOException {
+		return Files.writeString(this.dir.resolve(name), content);
+	}
+
+	private int count(String sql) {
+		return this.jdbcTemplate.queryForObject(sql, Integer.class);
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.Pet;
+import org.springframework.samples.petclinic.owner.PetTypeRegistry;
+import org.springframework.test.annotation.DirtiesContext;
+
+/**
+ * Tests of the {@link DatasetGenerator} and its {@link DatasetContent}. The generator
+ * commits its batches, so it runs against a database of its own that is discarded
+ * afterwards.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.NONE, properties = "spring.datasource.generate-unique-name=true")
+@DirtiesContext
+class DatasetGeneratorTests {
+
+	@Autowired
+	private DatasetGenerator generator;
+
+	@Autowired
+	private PetTypeRegistry petTypes;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void sameSeedGivesSameContent() {
+		DatasetContent content = new DatasetContent(7, this.petTypes.getPetTypes(), 5);
+		DatasetContent same = new DatasetContent(7, this.petTypes.getPetTypes(), 5);
+		DatasetContent other = new DatasetContent(8, this.petTypes.getPetTypes(), 5);
+		for (long index : new long[] { 0, 1, 999, 123_456_789 }) {
+			assertThat(describe(same.owner(index))).isEqualTo(describe(content.owner(index)));
+		}
+		assertThat(LongStream.range(0, 10).mapToObj(index -> describe(other.owner(index))))
+			.isNotEqualTo(LongStream.range(0, 10).mapToObj(index -> describe(content.owner(index))));
+	}
+
+	@Test
+	void contentIsSkewed() {
+		DatasetContent content = new DatasetContent(42, this.petTypes.getPetTypes(), 5);
+		List<Owner> owners = LongStream.range(0, 10_000).mapToObj(content::owner).toList();
+		Map<String, Long> lastNames = owners.stream()
+			.collect(Collectors.groupingBy(Owner::getLastName, Collectors.counting()));
+		// the most common surname is shared by many owners, most surnames by very few
+		assertThat(lastNames.values().stream().mapToLong(Long::longValue).max().getAsLong()).isGreaterThan(1000);
+		assertThat(lastNames.values().stream().filter(count -> count == 1).count()).isGreaterThan(lastNames.size() / 2);
+		List<Integer> visits = owners.stream()
+			.flatMap(owner -> owner.getPets().stream())
+			.map(pet -> pet.getVisits().size())
+			.sorted()
+			.toList();
+		assertThat(visits.get(visits.size() / 2)).isLessThanOrEqualTo(1);
+		assertThat(visits.get(visits.size() - 1)).isGreaterThan(50);
+		Map<String, Long> types = owners.stream()
+			.flatMap(owner -> owner.getPets().stream())
+			.collect(Collectors.groupingBy(pet -> pet.getType().getName(), Collectors.counting()));
+		assertThat(types.get("dog")).isGreaterThan(types.get("snake") * 5);
+	}
+
+	@Test
+	void shouldGenerateDataset() throws InterruptedException {
+		long owners = count("owners");
+		long pets = count("pets");
+		long visits = count("visits");
+		long vets = count("vets");
+		long specialties = count("specialties");
+		long vetSpecialties = count("vet_specialties");
+
+		DatasetGenerator.Report report = this.generator.generate(new DatasetProperties(1_000L, 30, 4, 42L, 3, 100));
+
+		assertThat(report.owners()).isEqualTo(1_000);
+		assertThat(count("owners")).isEqualTo(owners + 1_000);
+		assertThat(count("pets")).isEqualTo(pets + report.pets());
+		assertThat(count("visits")).isEqualTo(visits + report.visits());
+		assertThat(count("vets")).isEqualTo(vets + 30);
+		assertThat(count("specialties")).isEqualTo(specialties + 4);
+		assertThat(report.pets()).isGreaterThan(1_000);
+		assertThat(count("vet_specialties")).isGreaterThan(vetSpecialties);
+	}
+
+	private long count(String table) {
+		return this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+	}
+
+	private static String describe(Owner owner) {
+		Function<Pet, String> pet = p -> p.getName() + " " + p.getBirthDate() + " " + p.getType().getName() + " "
+				+ p.getVisits().stream().map(visit -> visit.getDate() + " " + visit.getDescription()).toList();
+		return owner.getFirstName() + " " + owner.getLastName() + " " + owner.getAddress() + " " + owner.getCity() + " "
+				+ owner.getTelephone() + " " + owner.getPets().stream().map(pet).toList();
+	}
+
+}
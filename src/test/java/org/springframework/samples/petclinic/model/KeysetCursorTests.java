@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link KeysetCursor}
+ */
+class KeysetCursorTests {
+
+	@Test
+	void shouldRoundTripThroughToken() {
+		KeysetCursor cursor = new KeysetCursor("O'Neil: Jr", 42);
+		assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void shouldDecodeEmptyTokenAsFirstPage() {
+		assertThat(KeysetCursor.decode("")).isEqualTo(KeysetCursor.FIRST);
+		assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST);
+	}
+
+	@Test
+	void shouldRejectMalformedToken() {
+		assertThatIllegalArgumentException().isThrownBy(() -> KeysetCursor.decode("not-a-cursor"));
+	}
+
+}
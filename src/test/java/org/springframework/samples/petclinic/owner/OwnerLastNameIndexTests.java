@@ -0,0 +1,117 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for {@link OwnerLastNameIndex}
+ */
+@ExtendWith(MockitoExtension.class)
+class OwnerLastNameIndexTests {
+
+	@Mock
+	private OwnerRepository owners;
+
+	private OwnerLastNameIndex index;
+
+	@BeforeEach
+	void setup() {
+		given(this.owners.findAllLastNames()).willReturn(List.of(lastName(1, "Franklin"), lastName(2, "Davis"),
+				lastName(3, "Rodriquez"), lastName(4, "Davis"), lastName(5, "davidson")));
+		this.index = new OwnerLastNameIndex(this.owners);
+		this.index.afterSingletonsInstantiated();
+	}
+
+	@Test
+	void shouldFindByPrefixIgnoringCase() {
+		OwnerLastNameIndex.Match match = this.index.find("DAVI", 0, 5);
+		assertThat(match.total()).isEqualTo(3);
+		assertThat(match.ids()).containsExactly(5, 2, 4);
+
+		assertThat(this.index.find("Davis", 0, 5).ids()).containsExactly(2, 4);
+		assertThat(this.index.find("Daviss", 0, 5).total()).isZero();
+	}
+
+	@Test
+	void shouldPage() {
+		OwnerLastNameIndex.Match match = this.index.find("", 1, 2);
+		assertThat(match.total()).isEqualTo(5);
+		assertThat(match.ids()).containsExactly(4, 1);
+
+		assertThat(this.index.find("", 2, 2).ids()).containsExactly(3);
+		assertThat(this.index.find("", 3, 2).ids()).isEmpty();
+	}
+
+	@Test
+	void shouldAddAndMoveSavedOwners() {
+		Owner owner = new Owner();
+		owner.setId(6);
+		owner.setLastName("Daviss");
+		this.index.put(owner);
+		assertThat(this.index.find("Daviss", 0, 5).ids()).containsExactly(6);
+
+		owner.setLastName("Black");
+		this.index.put(owner);
+		assertThat(this.index.find("Daviss", 0, 5).total()).isZero();
+		assertThat(this.index.find("b", 0, 5).ids()).containsExactly(6);
+		assertThat(this.index.size()).isEqualTo(6);
+	}
+
+	@Test
+	void shouldKeepOwnersPutWhileRebuilding() {
+		Owner owner = new Owner();
+		owner.setId(6);
+		owner.setLastName("Black");
+		// the owner is saved after the rebuild read the last names
+		given(this.owners.findAllLastNames()).willAnswer(invocation -> {
+			this.index.put(owner);
+			return List.of(lastName(1, "Franklin"), lastName(2, "Davis"));
+		});
+
+		this.index.rebuild();
+
+		assertThat(this.index.find("b", 0, 5).ids()).containsExactly(6);
+		assertThat(this.index.size()).isEqualTo(3);
+	}
+
+	private static OwnerRepository.LastName lastName(int id, String lastName) {
+		return new OwnerRepository.LastName() {
+
+			@Override
+			public Integer getId() {
+				return id;
+			}
+
+			@Override
+			public String getLastName() {
+				return lastName;
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL statements issued and the entities loaded by the owner, pet and visit
+ * endpoints, to make sure the owner aggregate is loaded once per request, without visits
+ * the page does not show, and pet types come from the {@link PetTypeRegistry}. The
+ * second-level cache is disabled so that every load reaches the database.
+ */
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+@AutoConfigureMockMvc
+class OwnerRequestStatementCountTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PetTypeRegistry petTypes;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setup() {
+		this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		this.petTypes.getPetTypes();
+	}
+
+	@Test
+	void showOwnerLoadsOwnerOnce() throws Exception {
+		// the owner with its pets, and the recent visits of both pets
+		assertThat(statementCount(get("/owners/{ownerId}", 6))).isEqualTo(2);
+		// the owner, its two pets, their type and the two visits of each pet
+		assertThat(loadedEntities()).isEqualTo(8);
+	}
+
+	@Test
+	void initUpdateOwnerFormLoadsOwnerOnce() throws Exception {
+		assertThat(statementCount(get("/owners/{ownerId}/edit", 6))).isEqualTo(1);
+		// the owner, its two pets and their type
+		assertThat(loadedEntities()).isEqualTo(4);
+	}
+
+	@Test
+	void initUpdatePetFormLoadsOwnerOnce() throws Exception {
+		assertThat(statementCount(get("/owners/{ownerId}/pets/{petId}/edit", 6, 7))).isEqualTo(1);
+		// the owner, its two pets and their type, but none of their visits
+		assertThat(loadedEntities()).isEqualTo(4);
+	}
+
+	@Test
+	void processUpdatePetFormLoadsOwnerOnce() throws Exception {
+		// rejected birth date, so that nothing is written
+		RequestBuilder request = post("/owners/{ownerId}/pets/{petId}/edit", 6, 7).param("name", "Samantha")
+			.param("birthDate", LocalDate.now().plusDays(1).toString());
+		assertThat(statementCount(request)).isEqualTo(1);
+		assertThat(loadedEntities()).isEqualTo(4);
+	}
+
+	@Test
+	void initNewVisitFormLoadsOwnerOnce() throws Exception {
+		// the owner with its pets, and the previous visits of the pet
+		assertThat(statementCount(get("/owners/{ownerId}/pets/{petId}/visits/new", 6, 7))).isEqualTo(2);
+		// the owner, its two pets, their type and the two visits of the pet
+		assertThat(loadedEntities()).isEqualTo(6);
+	}
+
+	private long statementCount(RequestBuilder request) throws Exception {
+		this.statistics.clear();
+		this.mockMvc.perform(request).andExpect(status().isOk());
+		return this.statistics.getPrepareStatementCount();
+	}
+
+	private long loadedEntities() {
+		return this.statistics.getEntityLoadCount();
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.owner;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * Requests the owner, pet and visit pages twice with the second-level cache enabled, so
+ * that the second request finds the owner in the cache and must still render its pets
+ * outside of any session.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class OwnerSecondLevelCacheTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void showOwnerTwice() throws Exception {
+		performTwice(get("/owners/{ownerId}", 1));
+	}
+
+	@Test
+	void editOwnerTwice() throws Exception {
+		performTwice(get("/owners/{ownerId}/edit", 4));
+	}
+
+	@Test
+	void editPetTwice() throws Exception {
+		performTwice(get("/owners/{ownerId}/pets/{petId}/edit", 2, 2));
+	}
+
+	@Test
+	void newVisitTwice() throws Exception {
+		performTwice(get("/owners/{ownerId}/pets/{petId}/visits/new", 3, 3));
+	}
+
+	private void performTwice(RequestBuilder request) throws Exception {
+		this.mockMvc.perform(request).andExpect(status().isOk());
+		this.mockMvc.perform(request).andExpect(status().isOk());
+	}
+
+}
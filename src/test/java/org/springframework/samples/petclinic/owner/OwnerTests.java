@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link Owner} pet lookups
+ */
+class OwnerTests {
+
+	@Test
+	void shouldFindPetsByIdAndName() {
+		Owner owner = new Owner();
+		Pet leo = pet(owner, "Leo", 1);
+		Pet basil = pet(owner, "Basil", 2);
+
+		assertThat(owner.getPet(2)).isSameAs(basil);
+		assertThat(owner.getPet(3)).isNull();
+		assertThat(owner.getPet("leo")).isSameAs(leo);
+		assertThat(owner.getPet("BASIL", true)).isSameAs(basil);
+		assertThat(owner.getPet("Rosy")).isNull();
+	}
+
+	@Test
+	void shouldFindPetsAddedOrSavedAfterLookup() {
+		Owner owner = new Owner();
+		pet(owner, "Leo", 1);
+		assertThat(owner.getPet("Rosy")).isNull();
+
+		Pet rosy = new Pet();
+		rosy.setName("Rosy");
+		owner.addPet(rosy);
+		assertThat(owner.getPet("rosy")).isSameAs(rosy);
+		assertThat(owner.getPet("rosy", true)).isNull();
+		assertThat(owner.getPet(2)).isNull();
+
+		rosy.setId(2);
+		assertThat(owner.getPet(2)).isSameAs(rosy);
+		assertThat(owner.getPet("rosy", true)).isSameAs(rosy);
+	}
+
+	@Test
+	void shouldFindRenamedPets() {
+		Owner owner = new Owner();
+		Pet leo = pet(owner, "Leo", 1);
+		assertThat(owner.getPet("Leo")).isSameAs(leo);
+
+		leo.setName("Max");
+		owner.invalidatePetIndex();
+		assertThat(owner.getPet("Leo")).isNull();
+		assertThat(owner.getPet("Max")).isSameAs(leo);
+	}
+
+	private static Pet pet(Owner owner, String name, int id) {
+		Pet pet = new Pet();
+		pet.setName(name);
+		owner.addPet(pet);
+		pet.setId(id);
+		return pet;
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Test class for {@link PetTypeRegistry}
+ */
+@ExtendWith(MockitoExtension.class)
+class PetTypeRegistryTests {
+
+	@Mock
+	private PetTypeRepository types;
+
+	private PetTypeRegistry registry;
+
+	@BeforeEach
+	void setup() {
+		given(this.types.findPetTypes()).willReturn(List.of(petType("bird"), petType("cat"), petType("dog")));
+		this.registry = new PetTypeRegistry(this.types);
+	}
+
+	@Test
+	void shouldLoadPetTypesOnce() {
+		assertThat(this.registry.getPetTypes()).extracting(PetType::getName).containsExactly("bird", "cat", "dog");
+		assertThat(this.registry.findByName("cat").getName()).isEqualTo("cat");
+		assertThat(this.registry.findByName("Cat")).isNull();
+		verify(this.types, times(1)).findPetTypes();
+	}
+
+	@Test
+	void shouldReloadAfterInvalidation() {
+		this.registry.getPetTypes();
+		this.registry.invalidate();
+		given(this.types.findPetTypes()).willReturn(List.of(petType("hamster")));
+		assertThat(this.registry.findByName("hamster")).isNotNull();
+		assertThat(this.registry.findByName("cat")).isNull();
+		verify(this.types, times(2)).findPetTypes();
+	}
+
+	private static PetType petType(String name) {
+		PetType type = new PetType();
+		type.setName(name);
+		return type;
+	}
+
+}
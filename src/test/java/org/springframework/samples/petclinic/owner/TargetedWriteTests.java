@@ -0,0 +1,96 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.owner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * Records the SQL written by the pet and visit forms, to make sure that they write the
+ * pet or visit alone rather than saving the owner with all its pets and visits.
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=org.springframework.samples.petclinic.owner.TargetedWriteTests$RecordingStatementInspector",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+@AutoConfigureMockMvc
+class TargetedWriteTests {
+
+	private static final Queue<String> statements = new ConcurrentLinkedQueue<>();
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void bookVisitIsASingleInsert() throws Exception {
+		List<String> writes = writes(post("/owners/{ownerId}/pets/{petId}/visits/new", 6, 7).param("date", "2024-01-01")
+			.param("description", "checkup"));
+		assertThat(writes).singleElement().asString().startsWith("insert into visits");
+	}
+
+	@Test
+	void addPetIsASingleInsert() throws Exception {
+		List<String> writes = writes(post("/owners/{ownerId}/pets/new", 6).param("name", "Tom")
+			.param("type", "cat")
+			.param("birthDate", "2020-01-01"));
+		assertThat(writes).singleElement().asString().startsWith("insert into pets");
+	}
+
+	@Test
+	void editPetIsASingleUpdate() throws Exception {
+		List<String> writes = writes(post("/owners/{ownerId}/pets/{petId}/edit", 6, 8).param("name", "Max")
+			.param("type", "cat")
+			.param("birthDate", "2012-09-05"));
+		assertThat(writes).singleElement().asString().startsWith("update pets");
+	}
+
+	private List<String> writes(RequestBuilder request) throws Exception {
+		statements.clear();
+		this.mockMvc.perform(request).andExpect(status().is3xxRedirection());
+		return statements.stream()
+			.map(sql -> sql.strip().toLowerCase(Locale.ROOT))
+			.filter(sql -> !sql.startsWith("select"))
+			.toList();
+	}
+
+	/**
+	 * Collects the SQL of every statement Hibernate prepares.
+	 */
+	public static class RecordingStatementInspector implements StatementInspector {
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+
+	}
+
+}
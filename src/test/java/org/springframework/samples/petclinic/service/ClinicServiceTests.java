@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -28,17 +29,27 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.samples.petclinic.model.BaseEntity;
 import org.springframework.samples.petclinic.owner.Owner;
 import org.springframework.samples.petclinic.owner.OwnerRepository;
+import org.springframework.samples.petclinic.owner.OwnerSummary;
+import org.springframework.samples.petclinic.owner.PetRepository;
 import org.springframework.samples.petclinic.owner.PetTypeRepository;
 import org.springframework.samples.petclinic.owner.Pet;
 import org.springframework.samples.petclinic.owner.PetType;
 import org.springframework.samples.petclinic.owner.Visit;
+import org.springframework.samples.petclinic.owner.VisitRepository;
 import org.springframework.samples.petclinic.vet.Vet;
 import org.springframework.samples.petclinic.vet.VetRepository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
 /**
  * Integration test of the Service and the Repository layer.
  * <p>
@@ -82,6 +93,15 @@ class ClinicServiceTests {
 	@Autowired
 	protected VetRepository vets;
 
+	@Autowired
+	protected VisitRepository visits;
+
+	@Autowired
+	protected PetRepository pets;
+
+	@Autowired
+	protected EntityManagerFactory entityManagerFactory;
+
 	Pageable pageable;
 
 	@Test
@@ -93,6 +113,44 @@ class ClinicServiceTests {
 		assertThat(owners).isEmpty();
 	}
 
+	@Test
+	void shouldFindOwnerSummariesByLastName() {
+		Page<OwnerSummary> owners = this.owners.findSummariesByLastNameStartingWith("Es", PageRequest.of(0, 5));
+		assertThat(owners).extracting(OwnerSummary::lastName).containsExactly("Escobito", "Estaban");
+		assertThat(owners).extracting(OwnerSummary::petNames).containsExactly("Mulligan", "Lucky, Sly");
+		assertThat(owners.getTotalElements()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldFindOwnerSummariesById() {
+		assertThat(this.owners.findSummariesByIdIn(List.of(10, 6))).extracting(OwnerSummary::petNames)
+			.containsExactlyInAnyOrder("Lucky, Sly", "Max, Samantha");
+		assertThat(this.owners.findAllLastNames()).hasSize(10);
+	}
+
+	@Test
+	void shouldSeekOwnerSummariesByLastName() {
+		Slice<OwnerSummary> owners = this.owners.findSummariesByLastNameStartingWithAfter("", "", 0,
+				PageRequest.ofSize(3));
+		assertThat(owners).extracting(OwnerSummary::lastName).containsExactly("Black", "Coleman", "Davis");
+		assertThat(owners.hasNext()).isTrue();
+
+		OwnerSummary last = owners.getContent().get(2);
+		owners = this.owners.findSummariesByLastNameStartingWithAfter("", last.lastName(), last.id(),
+				PageRequest.ofSize(3));
+		assertThat(owners).extracting(OwnerSummary::lastName).containsExactly("Davis", "Escobito", "Estaban");
+		assertThat(owners.getContent().get(0).id()).isGreaterThan(last.id());
+	}
+
+	@Test
+	void shouldFindOwnerWithPetsAndVisits() {
+		Optional<Owner> optionalOwner = this.owners.findById(6);
+		assertThat(optionalOwner).isPresent();
+		Owner owner = optionalOwner.get();
+		assertThat(owner.getPets()).extracting(Pet::getName).containsExactly("Max", "Samantha");
+		assertThat(owner.getPet("Max").getVisits()).hasSize(2);
+	}
+
 	@Test
 	void shouldFindSingleOwnerWithPet() {
 		Optional<Owner> optionalOwner = this.owners.findById(1);
@@ -104,6 +162,15 @@ class ClinicServiceTests {
 		assertThat(owner.getPets().get(0).getType().getName()).isEqualTo("cat");
 	}
 
+	@Test
+	void shouldCacheOwnerAggregateInSecondLevelCache() {
+		Owner owner = this.owners.findById(1).orElseThrow();
+		Cache cache = this.entityManagerFactory.getCache();
+		assertThat(cache.contains(Owner.class, 1)).isTrue();
+		assertThat(cache.contains(Pet.class, owner.getPets().get(0).getId())).isTrue();
+		assertThat(cache.contains(PetType.class, owner.getPets().get(0).getType().getId())).isTrue();
+	}
+
 	@Test
 	@Transactional
 	void shouldInsertOwner() {
@@ -123,6 +190,28 @@ class ClinicServiceTests {
 		assertThat(owners.getTotalElements()).isEqualTo(found + 1);
 	}
 
+	@Test
+	@Transactional
+	void shouldAllocateIdsFromPooledSequence() {
+		List<Owner> saved = this.owners.saveAll(List.of(newOwner("Ada"), newOwner("Grace"), newOwner("Edsger")));
+
+		// ids above the seed data, handed out in order from the allocated blocks
+		assertThat(saved).extracting(Owner::getId)
+			.allMatch(id -> id >= BaseEntity.ID_INITIAL_VALUE)
+			.doesNotHaveDuplicates()
+			.isSorted();
+	}
+
+	private static Owner newOwner(String firstName) {
+		Owner owner = new Owner();
+		owner.setFirstName(firstName);
+		owner.setLastName("Pooled");
+		owner.setAddress("1 Main St.");
+		owner.setCity("Madison");
+		owner.setTelephone("6085550000");
+		return owner;
+	}
+
 	@Test
 	@Transactional
 	void shouldUpdateOwner() {
@@ -212,6 +301,27 @@ class ClinicServiceTests {
 		assertThat(vet.getSpecialties().get(1).getName()).isEqualTo("surgery");
 	}
 
+	@Test
+	void shouldSeekVets() {
+		Slice<Vet> vets = this.vets.findAllAfter("", 0, PageRequest.ofSize(4));
+		assertThat(vets).extracting(Vet::getLastName).containsExactly("Carter", "Douglas", "Jenkins", "Leary");
+		assertThat(vets.hasNext()).isTrue();
+
+		vets = this.vets.findAllAfter("Leary", 2, PageRequest.ofSize(4));
+		assertThat(vets).extracting(Vet::getLastName).containsExactly("Ortega", "Stevens");
+		assertThat(vets.hasNext()).isFalse();
+	}
+
+	@Test
+	void shouldPageVetsInSeekOrder() {
+		Page<Vet> vets = this.vets.findAll(PageRequest.of(0, 4));
+		assertThat(vets).extracting(Vet::getLastName).containsExactly("Carter", "Douglas", "Jenkins", "Leary");
+
+		vets = this.vets.findAll(PageRequest.of(1, 4));
+		assertThat(vets).extracting(Vet::getLastName).containsExactly("Ortega", "Stevens");
+		assertThat(vets.getTotalElements()).isEqualTo(6);
+	}
+
 	@Test
 	@Transactional
 	void shouldAddNewVisitForPet() {
@@ -248,4 +358,68 @@ class ClinicServiceTests {
 			.isNotNull();
 	}
 
+	@Test
+	void shouldPageVisitsByPetIdNewestFirst() {
+		Slice<Visit> visits = this.visits.findByPetId(7, PageRequest.ofSize(1));
+		assertThat(visits.getContent()).extracting(Visit::getDescription).containsExactly("spayed");
+		assertThat(visits.hasNext()).isTrue();
+
+		visits = this.visits.findByPetId(7, PageRequest.of(1, 1));
+		assertThat(visits.getContent()).extracting(Visit::getDescription).containsExactly("rabies shot");
+		assertThat(visits.hasNext()).isFalse();
+	}
+
+	@Test
+	void shouldFindRecentVisitsOfSeveralPets() {
+		List<VisitRepository.PetVisit> visits = this.visits.findRecentByPetIdIn(List.of(7, 8), 1);
+		assertThat(visits).extracting(VisitRepository.PetVisit::getPetId).containsExactly(7, 8);
+		assertThat(visits).extracting(visit -> visit.getVisit().getDescription()).containsExactly("spayed", "neutered");
+	}
+
+	@Test
+	@Transactional
+	void shouldInsertVisitWithoutSavingOwner() {
+		Pet pet7 = this.owners.findById(6).orElseThrow().getPet(7);
+		Visit visit = new Visit();
+		visit.setDate(LocalDate.now());
+		visit.setDescription("booked alone");
+		pet7.addVisit(visit);
+
+		this.visits.save(visit);
+
+		assertThat(visit.getId()).isNotNull();
+		assertThat(this.visits.findByPetId(7, PageRequest.ofSize(1)).getContent()).extracting(Visit::getDescription)
+			.containsExactly("booked alone");
+	}
+
+	@Test
+	@Transactional
+	void shouldUpdatePetDetailsWithoutSavingOwner() {
+		PetType dog = EntityUtils.getById(this.types.findPetTypes(), PetType.class, 2);
+
+		assertThat(this.pets.updateDetails(7, "Sam", LocalDate.of(2012, 9, 5), dog)).isEqualTo(1);
+
+		Pet pet7 = this.owners.findById(6).orElseThrow().getPet(7);
+		assertThat(pet7.getName()).isEqualTo("Sam");
+		assertThat(pet7.getBirthDate()).isEqualTo(LocalDate.of(2012, 9, 5));
+		assertThat(pet7.getType().getId()).isEqualTo(2);
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void shouldKeepOtherPetsCachedWhenUpdatingPetDetails() {
+		Pet pet7 = this.owners.findById(6).orElseThrow().getPet(7);
+		PetType dog = EntityUtils.getById(this.types.findPetTypes(), PetType.class, 2);
+
+		this.pets.updateDetails(7, "Sam", LocalDate.of(2012, 9, 5), dog);
+		try {
+			org.hibernate.Cache cache = this.entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class);
+			assertThat(cache.containsEntity(Pet.class, 8)).isTrue();
+			assertThat(cache.containsCollection(Owner.class.getName() + ".pets", 6)).isTrue();
+		}
+		finally {
+			this.pets.updateDetails(7, pet7.getName(), pet7.getBirthDate(), pet7.getType());
+		}
+	}
+
 }
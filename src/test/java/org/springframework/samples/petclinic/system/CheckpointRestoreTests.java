@@ -0,0 +1,130 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.samples.petclinic.PetClinicApplication;
+
+/**
+ * Takes a checkpoint of the warmed up application and restores it, reporting the time to
+ * the first response of a cold start and of a restore. Needs a JDK with CRaC support,
+ * which is only available on Linux, and permission to checkpoint processes.
+ */
+@EnabledOnOs(OS.LINUX)
+@EnabledIf("cracSupported")
+class CheckpointRestoreTests {
+
+	private static final Log logger = LogFactory.getLog(CheckpointRestoreTests.class);
+
+	private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void restoresFasterThanColdStart() throws Exception {
+		int port = freePort();
+		Path checkpoint = this.dir.resolve("checkpoint");
+		Process checkpointing = start(List.of("-XX:CRaCCheckpointTo=" + checkpoint), port,
+				"--petclinic.checkpoint.enabled=true", "--petclinic.warm-up.iterations=50");
+		long coldStart = awaitFirstResponse(checkpointing, port);
+		// the process exits once the checkpoint is written
+		assertThat(checkpointing.waitFor(TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+		try (var files = Files.list(checkpoint)) {
+			assertThat(files).isNotEmpty();
+		}
+
+		Process restored = start(List.of("-XX:CRaCRestoreFrom=" + checkpoint), port);
+		try {
+			long restore = awaitFirstResponse(restored, port);
+			logger.info(String.format("First response after cold start %d ms, after restore %d ms",
+					coldStart / 1_000_000, restore / 1_000_000));
+			assertThat(restore).isLessThan(coldStart);
+		}
+		finally {
+			restored.destroy();
+			restored.waitFor(30, TimeUnit.SECONDS);
+		}
+	}
+
+	private Process start(List<String> options, int port, String... args) throws IOException {
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.addAll(options);
+		if (options.stream().noneMatch(option -> option.startsWith("-XX:CRaCRestoreFrom"))) {
+			command.addAll(List.of("-cp", System.getProperty("java.class.path"), PetClinicApplication.class.getName(),
+					"--server.port=" + port));
+			command.addAll(List.of(args));
+		}
+		return new ProcessBuilder(command).redirectErrorStream(true)
+			.redirectOutput(this.dir.resolve("petclinic-" + System.nanoTime() + ".log").toFile())
+			.start();
+	}
+
+	private long awaitFirstResponse(Process process, int port) throws InterruptedException {
+		long start = System.nanoTime();
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/owners?lastName="))
+			.timeout(Duration.ofSeconds(10))
+			.build();
+		while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+			try {
+				if (this.client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+					return System.nanoTime() - start;
+				}
+			}
+			catch (IOException ex) {
+				assertThat(process.isAlive()).as("application running").isTrue();
+			}
+			Thread.sleep(5);
+		}
+		throw new IllegalStateException("No response within " + TIMEOUT);
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	static boolean cracSupported() {
+		return ModuleLayer.boot().findModule("jdk.crac").isPresent();
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ConnectionLimitingDataSource}
+ */
+class ConnectionLimitingDataSourceTests {
+
+	@Test
+	void shouldLimitConnectionsInUse() throws Exception {
+		DataSource target = mock(DataSource.class);
+		Connection connection = mock(Connection.class);
+		given(target.getConnection()).willReturn(connection);
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(10));
+
+		Connection first = dataSource.getConnection();
+		dataSource.getConnection();
+		assertThat(dataSource.getAvailableConnections()).isZero();
+		assertThatExceptionOfType(SQLTransientConnectionException.class).isThrownBy(dataSource::getConnection);
+
+		first.close();
+		first.close();
+		verify(connection, times(2)).close();
+		assertThat(dataSource.getAvailableConnections()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldReleasePermitWhenConnectionFails() throws Exception {
+		DataSource target = mock(DataSource.class);
+		given(target.getConnection()).willThrow(new SQLTransientConnectionException("down"));
+		ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(10));
+
+		assertThatExceptionOfType(SQLTransientConnectionException.class).isThrownBy(dataSource::getConnection)
+			.withMessage("down");
+		assertThat(dataSource.getAvailableConnections()).isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.system;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Integration test of {@link PrimaryAfterWriteFilter}, with a second in-memory H2
+ * database standing in for a replica that has not caught up with any write.
+ */
+@SpringBootTest(classes = PetClinicApplication.class,
+		properties = { "petclinic.datasource.replica.url=jdbc:h2:mem:primary-after-write-tests;DB_CLOSE_DELAY=-1",
+				"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+				"spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+@AutoConfigureMockMvc
+class PrimaryAfterWriteTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replica;
+
+	@BeforeEach
+	void populateReplica() {
+		new ResourceDatabasePopulator(new ClassPathResource("db/h2/schema.sql"),
+				new ClassPathResource("db/h2/data.sql"))
+			.execute(this.replica);
+	}
+
+	@Test
+	void redirectAfterWriteReadsFromPrimary() throws Exception {
+		MvcResult result = this.mockMvc
+			.perform(post("/owners/new").param("firstName", "Grace")
+				.param("lastName", "Afterwrite")
+				.param("address", "1 Main St.")
+				.param("city", "Madison")
+				.param("telephone", "6085550000"))
+			.andExpect(status().is3xxRedirection())
+			.andExpect(cookie().exists(PrimaryAfterWriteFilter.COOKIE_NAME))
+			.andReturn();
+
+		this.mockMvc.perform(get(result.getResponse().getRedirectedUrl()).cookie(result.getResponse().getCookies()))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("Afterwrite")));
+	}
+
+	@Test
+	void readWithoutWriteUsesReplica() throws Exception {
+		new JdbcTemplate(this.replica).update("UPDATE owners SET last_name = 'Replica' WHERE id = 1");
+
+		this.mockMvc.perform(get("/owners/{ownerId}", 1))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("Replica")));
+	}
+
+	@Test
+	void readWithCookieUsesPrimary() throws Exception {
+		new JdbcTemplate(this.replica).update("UPDATE owners SET last_name = 'Replica' WHERE id = 1");
+
+		this.mockMvc.perform(get("/owners/{ownerId}", 1).cookie(new Cookie(PrimaryAfterWriteFilter.COOKIE_NAME, "1")))
+			.andExpect(status().isOk())
+			.andExpect(content().string(containsString("Franklin")));
+	}
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.OwnerRepository;
+
+/**
+ * Integration test of {@link ReadReplicaConfiguration}, with a second in-memory H2
+ * database standing in for the replica. The replica gets the same schema and data as the
+ * primary, then the two are told apart by changing a row on one of them.
+ */
+@SpringBootTest(classes = PetClinicApplication.class, webEnvironment = WebEnvironment.NONE,
+		properties = { "petclinic.datasource.replica.url=jdbc:h2:mem:replica-tests;DB_CLOSE_DELAY=-1",
+				"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+				"spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+class ReadReplicaTests {
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primary;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replica;
+
+	@BeforeEach
+	void populateReplica() {
+		new ResourceDatabasePopulator(new ClassPathResource("db/h2/schema.sql"),
+				new ClassPathResource("db/h2/data.sql"))
+			.execute(this.replica);
+	}
+
+	@Test
+	void readOnlyTransactionsUseReplica() {
+		new JdbcTemplate(this.replica).update("UPDATE owners SET first_name = 'Replica' WHERE id = 1");
+
+		Owner owner = this.owners.findById(1).orElseThrow();
+
+		assertThat(owner.getFirstName()).isEqualTo("Replica");
+	}
+
+	@Test
+	void writesUsePrimary() {
+		Owner owner = new Owner();
+		owner.setFirstName("Grace");
+		owner.setLastName("Primary");
+		owner.setAddress("1 Main St.");
+		owner.setCity("Madison");
+		owner.setTelephone("6085550000");
+		this.owners.save(owner);
+
+		String count = "SELECT COUNT(*) FROM owners WHERE last_name = 'Primary'";
+		assertThat(new JdbcTemplate(this.primary).queryForObject(count, Integer.class)).isEqualTo(1);
+		assertThat(new JdbcTemplate(this.replica).queryForObject(count, Integer.class)).isZero();
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link ReplicaFallbackDataSource}
+ */
+class ReplicaFallbackDataSourceTests {
+
+	private final DataSource replica = mock(DataSource.class);
+
+	private final DataSource primary = mock(DataSource.class);
+
+	private final Connection replicaConnection = mock(Connection.class);
+
+	private final Connection primaryConnection = mock(Connection.class);
+
+	@Test
+	void shouldUseReplicaWhenAvailable() throws Exception {
+		given(this.replica.getConnection()).willReturn(this.replicaConnection);
+		ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(this.replica, this.primary,
+				Duration.ofMinutes(1));
+
+		assertThat(dataSource.getConnection()).isSameAs(this.replicaConnection);
+		assertThat(dataSource.isReplicaUnavailable()).isFalse();
+	}
+
+	@Test
+	void shouldUsePrimaryForRetryIntervalWhenReplicaFails() throws Exception {
+		given(this.replica.getConnection()).willThrow(new SQLTransientConnectionException("down"));
+		given(this.primary.getConnection()).willReturn(this.primaryConnection);
+		ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(this.replica, this.primary,
+				Duration.ofMinutes(1));
+
+		assertThat(dataSource.getConnection()).isSameAs(this.primaryConnection);
+		assertThat(dataSource.getConnection()).isSameAs(this.primaryConnection);
+		assertThat(dataSource.isReplicaUnavailable()).isTrue();
+		verify(this.replica, times(1)).getConnection();
+	}
+
+	@Test
+	void shouldRetryReplicaAfterRetryInterval() throws Exception {
+		given(this.replica.getConnection()).willThrow(new SQLTransientConnectionException("down"))
+			.willReturn(this.replicaConnection);
+		given(this.primary.getConnection()).willReturn(this.primaryConnection);
+		ReplicaFallbackDataSource dataSource = new ReplicaFallbackDataSource(this.replica, this.primary, Duration.ZERO);
+
+		assertThat(dataSource.getConnection()).isSameAs(this.primaryConnection);
+		assertThat(dataSource.getConnection()).isSameAs(this.replicaConnection);
+		assertThat(dataSource.isReplicaUnavailable()).isFalse();
+	}
+
+}
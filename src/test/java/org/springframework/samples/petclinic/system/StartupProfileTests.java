@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+import org.springframework.samples.petclinic.owner.Owner;
+import org.springframework.samples.petclinic.owner.OwnerLastNameIndex;
+import org.springframework.samples.petclinic.owner.OwnerRepository;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration test of the {@code startup} profile, making sure that the work it defers
+ * still happens: beans initialized lazily, JPA bootstrapped in the background.
+ */
+@SpringBootTest(classes = PetClinicApplication.class, properties = "petclinic.owners.last-name-index.enabled=true")
+@ActiveProfiles("startup")
+@AutoConfigureMockMvc
+class StartupProfileTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private OwnerRepository owners;
+
+	@Autowired
+	private OwnerLastNameIndex lastNameIndex;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void shouldServeRequests() throws Exception {
+		this.mockMvc.perform(get("/owners").param("lastName", "Davis")).andExpect(status().isOk());
+		this.mockMvc.perform(get("/vets.html")).andExpect(status().isOk());
+	}
+
+	@Test
+	void shouldLoadLastNameIndexOnStartup() {
+		assertThat(this.lastNameIndex.size()).isPositive();
+	}
+
+	@Test
+	void shouldCaptureChanges() {
+		Owner owner = new Owner();
+		owner.setFirstName("Alex");
+		owner.setLastName("Ivanova");
+		owner.setAddress("1 Harbour Road");
+		owner.setCity("Portsmouth");
+		owner.setTelephone("0239000000");
+		this.owners.save(owner);
+
+		assertThat(this.jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM change_events WHERE entity = 'owner' AND entity_id = ?", Integer.class,
+				owner.getId()))
+			.isEqualTo(1);
+	}
+
+}
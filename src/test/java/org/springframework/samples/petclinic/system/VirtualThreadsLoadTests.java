@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.samples.petclinic.PetClinicApplication;
+
+/**
+ * Runs the same concurrent request load against the application on platform threads and
+ * on virtual threads, and checks that virtual threads serve it faster. Tomcat is limited
+ * to a few platform threads so that the difference is visible with a small load. Tagged
+ * as a benchmark, run it on Java 21 or newer with {@code ./mvnw test -P benchmark}.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadsLoadTests {
+
+	private static final Log logger = LogFactory.getLog(VirtualThreadsLoadTests.class);
+
+	private static final int CLIENTS = 64;
+
+	private static final int REQUESTS = 2000;
+
+	// platform threads serve 8 requests at a time, virtual threads as many as the 10
+	// pooled connections allow
+	private static final double MINIMUM_SPEED_UP = 1.1;
+
+	@Test
+	void virtualThreadsServeMoreRequestsPerSecond() throws Exception {
+		// warm up the JIT first, so that the platform threads are not measured cold
+		throughput(false);
+		double platform = throughput(false);
+		double virtual = throughput(true);
+		logger
+			.info(String.format("Requests per second: platform threads %.0f, virtual threads %.0f", platform, virtual));
+		assertThat(virtual).isGreaterThanOrEqualTo(platform * MINIMUM_SPEED_UP);
+	}
+
+	private double throughput(boolean virtualThreads) throws Exception {
+		SpringApplicationBuilder builder = new SpringApplicationBuilder(PetClinicApplication.class)
+			.properties("server.port=0", "server.tomcat.threads.max=8");
+		if (virtualThreads) {
+			builder.profiles("virtual-threads");
+		}
+		try (ConfigurableApplicationContext context = builder.run()) {
+			assertThat(context.getBean(DataSource.class) instanceof ConnectionLimitingDataSource)
+				.isEqualTo(virtualThreads);
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			URI uri = URI.create("http://localhost:" + port + "/owners?lastName=Davis");
+			HttpClient client = HttpClient.newHttpClient();
+			HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+			ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+			try {
+				long start = System.nanoTime();
+				List<Future<Integer>> responses = new ArrayList<>();
+				for (int i = 0; i < REQUESTS; i++) {
+					responses.add(executor
+						.submit(() -> client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+				}
+				for (Future<Integer> response : responses) {
+					assertThat(response.get()).isEqualTo(200);
+				}
+				return REQUESTS / ((System.nanoTime() - start) / 1e9);
+			}
+			finally {
+				executor.shutdownNow();
+			}
+		}
+	}
+
+}
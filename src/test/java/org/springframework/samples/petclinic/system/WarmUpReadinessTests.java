@@ -0,0 +1,69 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.samples.petclinic.PetClinicApplication;
+
+/**
+ * Integration test of the warm-up run at startup, and of the readiness group it is added
+ * to.
+ */
+@SpringBootTest(classes = PetClinicApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT,
+		properties = { "petclinic.warm-up.enabled=true", "petclinic.warm-up.iterations=2",
+				"management.endpoint.health.probes.enabled=true",
+				"management.endpoint.health.group.readiness.include=readinessState,warmUp",
+				"management.endpoint.health.group.readiness.show-details=always" })
+class WarmUpReadinessTests {
+
+	@Autowired
+	private TestRestTemplate rest;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldReportReadyOnceWarm() {
+		ResponseEntity<Map> response = this.rest.getForEntity("/actuator/health/readiness", Map.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		Map<String, Object> warmUp = (Map<String, Object>) ((Map<String, Object>) response.getBody().get("components"))
+			.get("warmUp");
+		assertThat(warmUp).containsEntry("status", "UP");
+		assertThat((Map<String, Object>) warmUp.get("details")).containsEntry("errors", 0)
+			.containsKeys("duration", "initialP99", "finalP99");
+	}
+
+	@Test
+	void shouldFillVetCache() {
+		assertThat(this.cacheManager.getCache("vets").get(SimpleKey.EMPTY)).isNotNull();
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.samples.petclinic.system;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.samples.petclinic.PetClinicApplication;
+
+/**
+ * Integration test of the {@link WarmUp} against the application on a random port.
+ */
+@SpringBootTest(classes = PetClinicApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT,
+		properties = "petclinic.warm-up.iterations=2")
+class WarmUpTests {
+
+	@Autowired
+	private WarmUp warmUp;
+
+	@Autowired
+	private WarmUpProperties properties;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void shouldRequestPagesWithoutWriting() {
+		long owners = count("owners");
+		long pets = count("pets");
+
+		WarmUp.Result result = this.warmUp.run();
+
+		assertThat(result.requests()).isEqualTo(2 * (this.properties.paths().size() + this.properties.forms().size()));
+		assertThat(result.errors()).isZero();
+		assertThat(result.initialP99()).isPositive();
+		assertThat(result.finalP99()).isPositive();
+		assertThat(count("owners")).isEqualTo(owners);
+		assertThat(count("pets")).isEqualTo(pets);
+	}
+
+	private long count(String table) {
+		return this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+	}
+
+}
@@ -24,14 +24,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
+import org.springframework.samples.petclinic.model.KeysetCursor;
 import org.springframework.test.context.aot.DisabledInAotMode;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -89,6 +94,31 @@ class VetControllerTests {
 
 	}
 
+	@Test
+	void testShowVetListHtmlWithPageZero() throws Exception {
+		mockMvc.perform(get("/vets.html").param("page", "0"))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("currentPage", 1))
+			.andExpect(view().name("vets/vetList"));
+	}
+
+	@Test
+	void testShowVetListHtmlWithCursor() throws Exception {
+		given(this.vets.findAllAfter(eq("Carter"), eq(1), any(Pageable.class)))
+			.willReturn(new SliceImpl<Vet>(Lists.newArrayList(helen())));
+
+		mockMvc.perform(get("/vets.html").param("cursor", new KeysetCursor("Carter", 1).encode()))
+			.andExpect(status().isOk())
+			.andExpect(model().attribute("listVets", hasSize(1)))
+			.andExpect(model().attribute("nextCursor", nullValue()))
+			.andExpect(view().name("vets/vetList"));
+	}
+
+	@Test
+	void testShowVetListHtmlWithMalformedCursor() throws Exception {
+		mockMvc.perform(get("/vets.html").param("cursor", "not-a-cursor")).andExpect(status().isBadRequest());
+	}
+
 	@Test
 	void testShowResourcesVetList() throws Exception {
 		ResultActions actions = mockMvc.perform(get("/vets").accept(MediaType.APPLICATION_JSON))
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.vet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Set;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Tests of the {@link VetRepository} caches: one bounded region per query, a stable key
+ * for page requests and the statistics published through Micrometer.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.NONE)
+@AutoConfigureObservability(tracing = false)
+class VetRepositoryCacheTests {
+
+	@Autowired
+	private VetRepository vets;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private javax.cache.CacheManager jcacheManager;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@BeforeEach
+	void clearCaches() {
+		this.cacheManager.getCache("vets").clear();
+		this.cacheManager.getCache("vet-pages").clear();
+	}
+
+	@Test
+	void shouldCacheEachQueryInItsOwnRegion() {
+		Collection<Vet> all = this.vets.findAll();
+		Page<Vet> page = this.vets.findAll(PageRequest.of(0, 5));
+
+		assertThat(this.vets.findAll()).isSameAs(all);
+		assertThat(this.vets.findAll(PageRequest.of(0, 5))).isSameAs(page);
+		assertThat(all).hasSize(6);
+		assertThat(page.getContent()).hasSize(5);
+	}
+
+	@Test
+	void shouldKeyPagesByNumberSizeAndSort() {
+		Page<Vet> page = this.vets.findAll(PageRequest.of(0, 5));
+
+		assertThat(this.vets.findAll(new OtherPageable(0, 5))).isSameAs(page);
+		assertThat(this.vets.findAll(PageRequest.of(1, 5))).isNotSameAs(page);
+		assertThat(this.vets.findAll(PageRequest.of(0, 5, Sort.by("lastName")))).isNotSameAs(page);
+	}
+
+	@Test
+	void shouldBoundRegions() throws MalformedObjectNameException {
+		for (String name : new String[] { "vets", "vet-pages", "vet", "vet-specialties" }) {
+			Cache<?, ?> cache = this.jcacheManager.getCache(name).unwrap(Cache.class);
+			assertThat(cache.policy().eviction()).as(name).isPresent();
+			assertThat(cache.policy().expireAfterWrite()).as(name).isPresent();
+			assertThat(statisticsBeans(name)).as(name).hasSize(1);
+		}
+	}
+
+	@Test
+	void shouldPublishStatistics() {
+		double hits = gets("hit");
+		double misses = gets("miss");
+		long loads = loads();
+
+		this.vets.findAll(PageRequest.of(0, 5));
+		this.vets.findAll(PageRequest.of(0, 5));
+		this.vets.findAll(PageRequest.of(1, 5));
+
+		assertThat(gets("hit") - hits).isEqualTo(1);
+		assertThat(gets("miss") - misses).isEqualTo(2);
+		assertThat(loads() - loads).isEqualTo(2);
+		assertThat(this.registry.find("cache.evictions").tag("cache", "vet-pages").functionCounter()).isNotNull();
+	}
+
+	private Set<ObjectName> statisticsBeans(String cacheName) throws MalformedObjectNameException {
+		// the provider replaces the commas, colons and equal signs of names by dots
+		String cacheManager = this.jcacheManager.getURI().toString().replaceAll("[,:=\\n]", ".");
+		ObjectName name = new ObjectName(
+				"javax.cache:type=CacheStatistics,CacheManager=" + cacheManager + ",Cache=" + cacheName);
+		return ManagementFactory.getPlatformMBeanServer().queryNames(name, null);
+	}
+
+	private double gets(String result) {
+		FunctionCounter counter = this.registry.get("cache.gets")
+			.tag("cache", "vet-pages")
+			.tag("result", result)
+			.functionCounter();
+		return counter.count();
+	}
+
+	private long loads() {
+		Timer timer = this.registry.find("spring.data.repository.invocations")
+			.tag("repository", "VetRepository")
+			.tag("method", "findAll")
+			.timer();
+		return (timer != null) ? timer.count() : 0;
+	}
+
+	/**
+	 * A {@link Pageable} other than {@link PageRequest}, and so never equal to one.
+	 */
+	private record OtherPageable(int pageNumber, int pageSize) implements Pageable {
+
+		@Override
+		public int getPageNumber() {
+			return this.pageNumber;
+		}
+
+		@Override
+		public int getPageSize() {
+			return this.pageSize;
+		}
+
+		@Override
+		public long getOffset() {
+			return (long) this.pageNumber * this.pageSize;
+		}
+
+		@Override
+		public Sort getSort() {
+			return Sort.unsorted();
+		}
+
+		@Override
+		public Pageable next() {
+			return new OtherPageable(this.pageNumber + 1, this.pageSize);
+		}
+
+		@Override
+		public Pageable previousOrFirst() {
+			return hasPrevious() ? new OtherPageable(this.pageNumber - 1, this.pageSize) : first();
+		}
+
+		@Override
+		public Pageable first() {
+			return new OtherPageable(0, this.pageSize);
+		}
+
+		@Override
+		public Pageable withPage(int pageNumber) {
+			return new OtherPageable(pageNumber, this.pageSize);
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return this.pageNumber > 0;
+		}
+
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.samples.petclinic.vet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collection;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL statements issued to list vets, to make sure the specialties of a page
+ * of vets are loaded with one query rather than one per vet. The second-level cache is
+ * disabled and the vet caches are cleared, so that every load reaches the database.
+ */
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false" })
+@AutoConfigureMockMvc
+class VetStatementCountTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private VetRepository vets;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setup() {
+		this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		this.cacheManager.getCache("vets").clear();
+		this.cacheManager.getCache("vet-pages").clear();
+		this.statistics.clear();
+	}
+
+	@Test
+	void findAllLoadsSpecialtiesInOneQuery() {
+		Collection<Vet> all = this.vets.findAll();
+
+		assertThat(all).hasSize(6);
+		assertThat(all).flatExtracting(Vet::getSpecialties).hasSize(5);
+		assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	void findPageLoadsSpecialtiesInOneQuery() {
+		Page<Vet> page = this.vets.findAll(PageRequest.of(0, 5));
+
+		assertThat(page.getContent()).hasSize(5);
+		page.getContent().forEach(Vet::getSpecialties);
+		// the vets, their specialties and the total count
+		assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(3);
+	}
+
+	@Test
+	void showVetListLoadsSpecialtiesInOneQuery() throws Exception {
+		// the vets, their specialties and the total count
+		assertThat(statementCount(get("/vets.html"))).isEqualTo(3);
+	}
+
+	@Test
+	void showKeysetVetListLoadsSpecialtiesInOneQuery() throws Exception {
+		assertThat(statementCount(get("/vets.html").param("cursor", ""))).isEqualTo(2);
+	}
+
+	@Test
+	void showResourcesVetListLoadsSpecialtiesInOneQuery() throws Exception {
+		assertThat(statementCount(get("/vets"))).isEqualTo(2);
+	}
+
+	private long statementCount(RequestBuilder request) throws Exception {
+		this.statistics.clear();
+		this.mockMvc.perform(request).andExpect(status().isOk());
+		return this.statistics.getPrepareStatementCount();
+	}
+
+}